@@ -1,5 +1,5 @@
 /*
- *    Copyright 2009-2023 the original author or authors.
+ *    Copyright 2009-2026 the original author or authors.
  *
  *    Licensed under the Apache License, Version 2.0 (the "License");
  *    you may not use this file except in compliance with the License.
@@ -143,6 +143,35 @@ public @interface Options {
    */
   String databaseId() default "";
 
+  /**
+   * Returns whether the rows of a simple result map are mapped to objects in parallel while the result set is read.
+   *
+   * @return {@code true} if mapped in parallel; {@code false} if otherwise
+   *
+   * @since 3.5.18
+   */
+  boolean parallelMapping() default false;
+
+  /**
+   * Returns the maximum number of elements of a collection parameter that are passed to one execution of the
+   * statement. A larger collection is split into chunks that are executed one after another; update counts are added
+   * up and selected rows are concatenated.
+   *
+   * @return the chunk size; {@code 0} (the default) if the statement is not split
+   *
+   * @since 3.5.18
+   */
+  int chunkSize() default 0;
+
+  /**
+   * Returns the name of the collection parameter that is split when {@link #chunkSize()} is set.
+   *
+   * @return the parameter name; an empty string (the default) to split the only collection parameter
+   *
+   * @since 3.5.18
+   */
+  String chunkParameter() default "";
+
   /**
    * The container annotation for {@link Options}.
    *
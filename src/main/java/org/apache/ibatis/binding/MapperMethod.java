@@ -1,5 +1,5 @@
 /*
- *    Copyright 2009-2023 the original author or authors.
+ *    Copyright 2009-2026 the original author or authors.
  *
  *    Licensed under the Apache License, Version 2.0 (the "License");
  *    you may not use this file except in compliance with the License.
@@ -23,6 +23,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 import org.apache.ibatis.annotations.Flush;
 import org.apache.ibatis.annotations.MapKey;
@@ -100,6 +101,9 @@ public class MapperMethod {
       throw new BindingException("Mapper method '" + command.getName()
           + "' attempted to return null from a method with a primitive return type (" + method.getReturnType() + ").");
     }
+    if (method.returnsFuture()) {
+      result = CompletableFuture.completedFuture(result);
+    }
     return result;
   }
 
@@ -275,6 +279,7 @@ public class MapperMethod {
     private final boolean returnsVoid;
     private final boolean returnsCursor;
     private final boolean returnsOptional;
+    private final boolean returnsFuture;
     private final Class<?> returnType;
     private final String mapKey;
     private final Integer resultHandlerIndex;
@@ -283,10 +288,18 @@ public class MapperMethod {
 
     public MethodSignature(Configuration configuration, Class<?> mapperInterface, Method method) {
       Type resolvedReturnType = TypeParameterResolver.resolveReturnType(method, mapperInterface);
+      this.returnsFuture = isFutureType(resolvedReturnType);
+      if (returnsFuture) {
+        // the statement returns the result of the future
+        resolvedReturnType = ((ParameterizedType) resolvedReturnType).getActualTypeArguments()[0];
+      }
       if (resolvedReturnType instanceof Class<?>) {
-        this.returnType = (Class<?>) resolvedReturnType;
+        this.returnType = Void.class.equals(resolvedReturnType) && returnsFuture ? void.class
+            : (Class<?>) resolvedReturnType;
       } else if (resolvedReturnType instanceof ParameterizedType) {
         this.returnType = (Class<?>) ((ParameterizedType) resolvedReturnType).getRawType();
+      } else if (returnsFuture) {
+        this.returnType = Object.class;
       } else {
         this.returnType = method.getReturnType();
       }
@@ -352,6 +365,27 @@ public class MapperMethod {
       return returnsOptional;
     }
 
+    /**
+     * Returns whether the return type is a future, e.g. {@code java.util.concurrent.CompletableFuture}. The other methods
+     * of the signature then describe the type argument of the future.
+     *
+     * @return {@code true}, if the method returns a future completed with the result of the statement
+     *
+     * @since 3.5.18
+     */
+    public boolean returnsFuture() {
+      return returnsFuture;
+    }
+
+    private static boolean isFutureType(Type type) {
+      if (!(type instanceof ParameterizedType)) {
+        return false;
+      }
+      final Type rawType = ((ParameterizedType) type).getRawType();
+      return rawType instanceof Class<?> && !Object.class.equals(rawType)
+          && ((Class<?>) rawType).isAssignableFrom(CompletableFuture.class);
+    }
+
     private Integer getUniqueParamIndex(Method method, Class<?> paramType) {
       Integer index = null;
       final Class<?>[] argTypes = method.getParameterTypes();
@@ -373,7 +407,7 @@ public class MapperMethod {
 
     private String getMapKey(Method method) {
       String mapKey = null;
-      if (Map.class.isAssignableFrom(method.getReturnType())) {
+      if (Map.class.isAssignableFrom(this.returnType)) {
         final MapKey mapKeyAnnotation = method.getAnnotation(MapKey.class);
         if (mapKeyAnnotation != null) {
           mapKey = mapKeyAnnotation.value();
@@ -0,0 +1,51 @@
+/*
+ *    Copyright 2009-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.apache.ibatis.builder.annotation;
+
+/**
+ * The interface that lets an SQL provider class reuse the SQL it provides.
+ * <p>
+ * By default an SQL provider method is invoked, and the SQL it returns is parsed, on every execution of the statement.
+ * When the SQL provider class implements this interface, the SQL source created for an execution is kept under the key
+ * returned by {@link #resolveCacheKey(ProviderContext, Object)}, and later executions of the statement that resolve an
+ * equal key reuse it without invoking the provider method.
+ * <p>
+ * The key must identify everything the provided SQL text depends on. Values that the SQL only references with
+ * {@code #{}} placeholders are bound on every execution and do not need to be part of it. Keys are compared with
+ * {@code equals} and {@code hashCode}, so they must be immutable: a key that changes after it is returned can no
+ * longer be found, or finds SQL provided for other values.
+ * <p>
+ * The SQL provider class must have a default constructor. It is instantiated once per statement and that instance
+ * resolves the keys and provides the SQL of all executions, which may run concurrently on several threads, so it must
+ * be thread-safe and must not keep state of a single execution in its fields.
+ *
+ * @since 3.5.18
+ */
+public interface ProviderSqlCacheKeyResolver {
+
+  /**
+   * Resolve the key of the SQL provided for a parameter.
+   *
+   * @param context
+   *          a context for SQL provider
+   * @param parameterObject
+   *          the parameter object of the statement, a map for multiple parameters
+   *
+   * @return the key, or {@code null} to invoke the provider method without reusing its SQL
+   */
+  Object resolveCacheKey(ProviderContext context, Object parameterObject);
+
+}
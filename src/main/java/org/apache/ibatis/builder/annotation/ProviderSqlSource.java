@@ -1,5 +1,5 @@
 /*
- *    Copyright 2009-2023 the original author or authors.
+ *    Copyright 2009-2026 the original author or authors.
  *
  *    Licensed under the Apache License, Version 2.0 (the "License");
  *    you may not use this file except in compliance with the License.
@@ -19,6 +19,7 @@ import java.lang.annotation.Annotation;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.util.List;
 import java.util.Map;
 
 import org.apache.ibatis.annotations.Lang;
@@ -28,6 +29,7 @@ import org.apache.ibatis.mapping.SqlSource;
 import org.apache.ibatis.reflection.ParamNameResolver;
 import org.apache.ibatis.scripting.LanguageDriver;
 import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.util.BoundedConcurrentCache;
 
 /**
  * @author Clinton Begin
@@ -35,6 +37,8 @@ import org.apache.ibatis.session.Configuration;
  */
 public class ProviderSqlSource implements SqlSource {
 
+  private static final int MAX_CACHED_SQL_SOURCES = 64;
+
   private final Configuration configuration;
   private final Class<?> providerType;
   private final LanguageDriver languageDriver;
@@ -44,6 +48,11 @@ public class ProviderSqlSource implements SqlSource {
   private final Class<?>[] providerMethodParameterTypes;
   private final ProviderContext providerContext;
   private final Integer providerContextIndex;
+  // reused for every invocation, created on first use
+  private volatile Object providerInstance;
+  // the SQL sources of a ProviderSqlCacheKeyResolver, null for other providers
+  private final ProviderContext cacheKeyContext;
+  private final BoundedConcurrentCache<List<Object>, SqlSource> sqlSourceCache;
 
   /**
    * This constructor will remove at a future version.
@@ -110,7 +119,7 @@ public class ProviderSqlSource implements SqlSource {
 
       if (candidateProviderMethodName.length() == 0
           && ProviderMethodResolver.class.isAssignableFrom(this.providerType)) {
-        candidateProviderMethod = ((ProviderMethodResolver) this.providerType.getDeclaredConstructor().newInstance())
+        candidateProviderMethod = ((ProviderMethodResolver) getProviderInstance())
             .resolveMethod(new ProviderContext(mapperType, mapperMethod, configuration.getDatabaseId()));
       }
       if (candidateProviderMethod == null) {
@@ -158,14 +167,45 @@ public class ProviderSqlSource implements SqlSource {
     }
     this.providerContext = candidateProviderContext;
     this.providerContextIndex = candidateProviderContextIndex;
+    if (ProviderSqlCacheKeyResolver.class.isAssignableFrom(this.providerType)) {
+      this.cacheKeyContext = new ProviderContext(mapperType, mapperMethod, configuration.getDatabaseId());
+      this.sqlSourceCache = new BoundedConcurrentCache<>(MAX_CACHED_SQL_SOURCES);
+    } else {
+      this.cacheKeyContext = null;
+      this.sqlSourceCache = null;
+    }
   }
 
   @Override
   public BoundSql getBoundSql(Object parameterObject) {
-    SqlSource sqlSource = createSqlSource(parameterObject);
+    SqlSource sqlSource = sqlSourceCache == null ? createSqlSource(parameterObject)
+        : getCachedSqlSource(parameterObject);
     return sqlSource.getBoundSql(parameterObject);
   }
 
+  private SqlSource getCachedSqlSource(Object parameterObject) {
+    Object cacheKey;
+    try {
+      cacheKey = ((ProviderSqlCacheKeyResolver) getProviderInstance()).resolveCacheKey(cacheKeyContext,
+          parameterObject);
+    } catch (Exception e) {
+      throw new BuilderException("Error resolving SqlProvider cache key for '" + mapperMethod
+          + "' with specify parameter '" + (parameterObject == null ? null : parameterObject.getClass())
+          + "'.  Cause: " + extractRootCause(e), e);
+    }
+    if (cacheKey == null) {
+      return createSqlSource(parameterObject);
+    }
+    // the SQL source is created for the parameter type
+    List<Object> key = List.of(cacheKey, parameterObject == null ? Object.class : parameterObject.getClass());
+    SqlSource sqlSource = sqlSourceCache.get(key);
+    if (sqlSource == null) {
+      sqlSource = createSqlSource(parameterObject);
+      sqlSourceCache.put(key, sqlSource);
+    }
+    return sqlSource;
+  }
+
   private SqlSource createSqlSource(Object parameterObject) {
     try {
       String sql;
@@ -243,12 +283,21 @@ public class ProviderSqlSource implements SqlSource {
   private String invokeProviderMethod(Object... args) throws Exception {
     Object targetObject = null;
     if (!Modifier.isStatic(providerMethod.getModifiers())) {
-      targetObject = providerType.getDeclaredConstructor().newInstance();
+      targetObject = getProviderInstance();
     }
     CharSequence sql = (CharSequence) providerMethod.invoke(targetObject, args);
     return sql != null ? sql.toString() : null;
   }
 
+  private Object getProviderInstance() throws ReflectiveOperationException {
+    Object instance = providerInstance;
+    if (instance == null) {
+      instance = providerType.getDeclaredConstructor().newInstance();
+      providerInstance = instance;
+    }
+    return instance;
+  }
+
   private Class<?> getProviderType(Configuration configuration, Annotation providerAnnotation, Method mapperMethod)
       throws NoSuchMethodException, InvocationTargetException, IllegalAccessException {
     Class<?> type = (Class<?>) providerAnnotation.annotationType().getMethod("type").invoke(providerAnnotation);
@@ -1,5 +1,5 @@
 /*
- *    Copyright 2009-2024 the original author or authors.
+ *    Copyright 2009-2026 the original author or authors.
  *
  *    Licensed under the Apache License, Version 2.0 (the "License");
  *    you may not use this file except in compliance with the License.
@@ -292,6 +292,15 @@ public class XMLConfigBuilder extends BaseBuilder {
         booleanValueOf(props.getProperty("argNameBasedConstructorAutoMapping"), false));
     configuration.setDefaultSqlProviderType(resolveClass(props.getProperty("defaultSqlProviderType")));
     configuration.setNullableOnForEach(booleanValueOf(props.getProperty("nullableOnForEach"), false));
+    configuration.setCursorResultOrdered(booleanValueOf(props.getProperty("cursorResultOrdered"), false));
+    configuration.setDynamicSqlShapeCacheEnabled(
+        booleanValueOf(props.getProperty("dynamicSqlShapeCacheEnabled"), false));
+    configuration.setBatchStatementGrouping(booleanValueOf(props.getProperty("batchStatementGrouping"), false));
+    configuration.setBatchMaxStatementRows(integerValueOf(props.getProperty("batchMaxStatementRows"), null));
+    configuration.setBatchMaxRows(integerValueOf(props.getProperty("batchMaxRows"), null));
+    configuration.setBatchMaxBytes(integerValueOf(props.getProperty("batchMaxBytes"), null));
+    configuration.setBatchReleaseParameterObjects(
+        booleanValueOf(props.getProperty("batchReleaseParameterObjects"), false));
   }
 
   private void environmentsElement(XNode context) throws Exception {
@@ -1,5 +1,5 @@
 /*
- *    Copyright 2009-2023 the original author or authors.
+ *    Copyright 2009-2026 the original author or authors.
  *
  *    Licensed under the Apache License, Version 2.0 (the "License");
  *    you may not use this file except in compliance with the License.
@@ -117,6 +117,8 @@ public class DefaultCursor<T> implements Cursor<T> {
     } catch (SQLException e) {
       // ignore
     } finally {
+      // release the partially mapped nested result objects
+      resultSetHandler.cleanUpAfterHandlingResultSet();
       status = CursorStatus.CLOSED;
     }
   }
@@ -1,5 +1,5 @@
 /*
- *    Copyright 2009-2023 the original author or authors.
+ *    Copyright 2009-2026 the original author or authors.
  *
  *    Licensed under the Apache License, Version 2.0 (the "License");
  *    you may not use this file except in compliance with the License.
@@ -62,6 +62,8 @@ public class PooledDataSource implements DataSource {
 
   private final Lock lock = new ReentrantLock();
   private final Condition condition = lock.newCondition();
+  // connections being opened outside of the lock, counted as active
+  private int pendingConnectionCount;
 
   public PooledDataSource() {
     dataSource = new UnpooledDataSource();
@@ -447,17 +449,29 @@ public class PooledDataSource implements DataSource {
           if (log.isDebugEnabled()) {
             log.debug("Checked out connection " + conn.getRealHashCode() + " from pool.");
           }
-        } else if (state.activeConnections.size() < poolMaximumActiveConnections) {
+        } else if (state.activeConnections.size() + pendingConnectionCount < poolMaximumActiveConnections) {
           // Pool does not have available connection and can create a new connection
-          conn = new PooledConnection(dataSource.getConnection(), this);
+          // without blocking the pool while the database is connected to
+          pendingConnectionCount++;
+          lock.unlock();
+          try {
+            conn = new PooledConnection(dataSource.getConnection(), this);
+          } finally {
+            lock.lock();
+            pendingConnectionCount--;
+            if (conn == null) {
+              condition.signal();
+            }
+          }
           if (log.isDebugEnabled()) {
             log.debug("Created connection " + conn.getRealHashCode() + ".");
           }
         } else {
           // Cannot create new connection
-          PooledConnection oldestActiveConnection = state.activeConnections.get(0);
-          long longestCheckoutTime = oldestActiveConnection.getCheckoutTime();
-          if (longestCheckoutTime > poolMaximumCheckoutTime) {
+          PooledConnection oldestActiveConnection = state.activeConnections.isEmpty() ? null
+              : state.activeConnections.get(0);
+          long longestCheckoutTime = oldestActiveConnection == null ? 0 : oldestActiveConnection.getCheckoutTime();
+          if (oldestActiveConnection != null && longestCheckoutTime > poolMaximumCheckoutTime) {
             // Can claim overdue connection
             state.claimedOverdueConnectionCount++;
             state.accumulatedCheckoutTimeOfOverdueConnections += longestCheckoutTime;
@@ -1,5 +1,5 @@
 /*
- *    Copyright 2009-2024 the original author or authors.
+ *    Copyright 2009-2026 the original author or authors.
  *
  *    Licensed under the Apache License, Version 2.0 (the "License");
  *    you may not use this file except in compliance with the License.
@@ -31,7 +31,6 @@ import java.util.logging.Logger;
 import javax.sql.DataSource;
 
 import org.apache.ibatis.io.Resources;
-import org.apache.ibatis.util.MapUtil;
 
 /**
  * @author Clinton Begin
@@ -232,24 +231,24 @@ public class UnpooledDataSource implements DataSource {
   }
 
   private void initializeDriver() throws SQLException {
+    if (registeredDrivers.containsKey(driver)) {
+      return;
+    }
+    // loaded outside of the map so that other threads are not blocked while the class is loaded
+    Driver driverInstance;
     try {
-      MapUtil.computeIfAbsent(registeredDrivers, driver, x -> {
-        Class<?> driverType;
-        try {
-          if (driverClassLoader != null) {
-            driverType = Class.forName(x, true, driverClassLoader);
-          } else {
-            driverType = Resources.classForName(x);
-          }
-          Driver driverInstance = (Driver) driverType.getDeclaredConstructor().newInstance();
-          DriverManager.registerDriver(new DriverProxy(driverInstance));
-          return driverInstance;
-        } catch (Exception e) {
-          throw new RuntimeException("Error setting driver on UnpooledDataSource.", e);
-        }
-      });
-    } catch (RuntimeException re) {
-      throw new SQLException("Error setting driver on UnpooledDataSource.", re.getCause());
+      Class<?> driverType;
+      if (driverClassLoader != null) {
+        driverType = Class.forName(driver, true, driverClassLoader);
+      } else {
+        driverType = Resources.classForName(driver);
+      }
+      driverInstance = (Driver) driverType.getDeclaredConstructor().newInstance();
+    } catch (Exception e) {
+      throw new SQLException("Error setting driver on UnpooledDataSource.", e);
+    }
+    if (registeredDrivers.putIfAbsent(driver, driverInstance) == null) {
+      DriverManager.registerDriver(new DriverProxy(driverInstance));
     }
   }
 
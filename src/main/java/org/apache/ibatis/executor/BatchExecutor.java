@@ -1,5 +1,5 @@
 /*
- *    Copyright 2009-2023 the original author or authors.
+ *    Copyright 2009-2026 the original author or authors.
  *
  *    Licensed under the Apache License, Version 2.0 (the "License");
  *    you may not use this file except in compliance with the License.
@@ -21,7 +21,9 @@ import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.apache.ibatis.cursor.Cursor;
 import org.apache.ibatis.executor.keygen.Jdbc3KeyGenerator;
@@ -44,6 +46,12 @@ public class BatchExecutor extends BaseExecutor {
 
   private final List<Statement> statementList = new ArrayList<>();
   private final List<BatchResult> batchResultList = new ArrayList<>();
+  // indexes of the statements by statement and SQL, when grouping
+  private final Map<List<Object>, Integer> statementIndexes = new HashMap<>();
+  // results of the batches executed when a limit was reached, returned by the next flush with their update counts only
+  private final List<BatchResult> executedBatchResults = new ArrayList<>();
+  private int batchedRows;
+  private long batchedBytes;
   private String currentSql;
   private MappedStatement currentStatement;
 
@@ -59,12 +67,13 @@ public class BatchExecutor extends BaseExecutor {
     final BoundSql boundSql = handler.getBoundSql();
     final String sql = boundSql.getSql();
     final Statement stmt;
-    if (sql.equals(currentSql) && ms.equals(currentStatement)) {
-      int last = statementList.size() - 1;
-      stmt = statementList.get(last);
+    final BatchResult batchResult;
+    final int index = indexOf(ms, sql);
+    if (index >= 0) {
+      stmt = statementList.get(index);
       applyTransactionTimeout(stmt);
       handler.parameterize(stmt);// fix Issues 322
-      BatchResult batchResult = batchResultList.get(last);
+      batchResult = batchResultList.get(index);
       batchResult.addParameterObject(parameterObject);
     } else {
       Connection connection = getConnection(ms.getStatementLog());
@@ -72,13 +81,68 @@ public class BatchExecutor extends BaseExecutor {
       handler.parameterize(stmt); // fix Issues 322
       currentSql = sql;
       currentStatement = ms;
+      if (configuration.isBatchStatementGrouping()) {
+        statementIndexes.put(List.of(ms, sql), statementList.size());
+      }
+      batchResult = new BatchResult(ms, sql, parameterObject);
       statementList.add(stmt);
-      batchResultList.add(new BatchResult(ms, sql, parameterObject));
+      batchResultList.add(batchResult);
     }
     handler.batch(stmt);
+    if (isLimitReached(batchResult, boundSql, parameterObject)) {
+      for (BatchResult executed : doFlushStatements(false)) {
+        executed.clearParameterObjects();
+        executedBatchResults.add(executed);
+      }
+    }
     return BATCH_UPDATE_RETURN_VALUE;
   }
 
+  private boolean isLimitReached(BatchResult batchResult, BoundSql boundSql, Object parameterObject) {
+    batchedRows++;
+    final Integer maxStatementRows = configuration.getBatchMaxStatementRows();
+    if (maxStatementRows != null && batchResult.getParameterObjects().size() >= maxStatementRows) {
+      return true;
+    }
+    final Integer maxRows = configuration.getBatchMaxRows();
+    if (maxRows != null && batchedRows >= maxRows) {
+      return true;
+    }
+    final Integer maxBytes = configuration.getBatchMaxBytes();
+    if (maxBytes != null) {
+      // the values were resolved when the statement was parameterized
+      for (Object value : boundSql.getParameterValues(parameterObject)) {
+        batchedBytes += estimateSize(value);
+      }
+      return batchedBytes >= maxBytes;
+    }
+    return false;
+  }
+
+  private static long estimateSize(Object value) {
+    if (value == null) {
+      return 0;
+    }
+    if (value instanceof CharSequence) {
+      return 2L * ((CharSequence) value).length();
+    }
+    if (value instanceof byte[]) {
+      return ((byte[]) value).length;
+    }
+    if (value instanceof char[]) {
+      return 2L * ((char[]) value).length;
+    }
+    return 8;
+  }
+
+  private int indexOf(MappedStatement ms, String sql) {
+    if (configuration.isBatchStatementGrouping()) {
+      Integer index = statementIndexes.get(List.of(ms, sql));
+      return index == null ? -1 : index;
+    }
+    return sql.equals(currentSql) && ms.equals(currentStatement) ? statementList.size() - 1 : -1;
+  }
+
   @Override
   public <E> List<E> doQuery(MappedStatement ms, Object parameterObject, RowBounds rowBounds,
       ResultHandler resultHandler, BoundSql boundSql) throws SQLException {
@@ -114,7 +178,8 @@ public class BatchExecutor extends BaseExecutor {
   @Override
   public List<BatchResult> doFlushStatements(boolean isRollback) throws SQLException {
     try {
-      List<BatchResult> results = new ArrayList<>();
+      List<BatchResult> results = new ArrayList<>(executedBatchResults);
+      executedBatchResults.clear();
       if (isRollback) {
         return Collections.emptyList();
       }
@@ -135,14 +200,17 @@ public class BatchExecutor extends BaseExecutor {
               keyGenerator.processAfter(this, ms, stmt, parameter);
             }
           }
+          if (configuration.isBatchReleaseParameterObjects()) {
+            batchResult.clearParameterObjects();
+          }
           // Close statement to close cursor #1109
           closeStatement(stmt);
         } catch (BatchUpdateException e) {
           StringBuilder message = new StringBuilder();
           message.append(batchResult.getMappedStatement().getId()).append(" (batch index #").append(i + 1).append(")")
               .append(" failed.");
-          if (i > 0) {
-            message.append(" ").append(i)
+          if (!results.isEmpty()) {
+            message.append(" ").append(results.size())
                 .append(" prior sub executor(s) completed successfully, but will be rolled back.");
           }
           throw new BatchExecutorException(message.toString(), e, results, batchResult);
@@ -157,6 +225,9 @@ public class BatchExecutor extends BaseExecutor {
       currentSql = null;
       statementList.clear();
       batchResultList.clear();
+      statementIndexes.clear();
+      batchedRows = 0;
+      batchedBytes = 0;
     }
   }
 
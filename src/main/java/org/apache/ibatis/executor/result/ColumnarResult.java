@@ -0,0 +1,158 @@
+/*
+ *    Copyright 2009-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.apache.ibatis.executor.result;
+
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.apache.ibatis.executor.ExecutorException;
+
+/**
+ * The rows of a result set stored column by column.
+ * <p>
+ * Integer, big integer and floating point columns are kept in {@code int[]}, {@code long[]} and {@code double[]}
+ * arrays, so no value is boxed. Other columns are read with their type handler into an {@code Object[]}. SQL
+ * {@code NULL} is tracked per column in a {@link BitSet}; the array element of a null value is {@code 0} or
+ * {@code null}.
+ *
+ * @since 3.5.18
+ *
+ * @see org.apache.ibatis.session.SqlSession#selectColumns(String, Object,
+ *      org.apache.ibatis.session.RowBounds)
+ */
+public class ColumnarResult {
+
+  /**
+   * How the values of a column are stored.
+   */
+  public enum ColumnType {
+    INT, LONG, DOUBLE, OBJECT
+  }
+
+  private final List<String> columnNames;
+  private final Map<String, Integer> columnIndexes;
+  private final ColumnType[] columnTypes;
+  private final Object[] values;
+  private final BitSet[] nulls;
+  private final int rowCount;
+
+  ColumnarResult(List<String> columnNames, Map<String, Integer> columnIndexes, ColumnType[] columnTypes,
+      Object[] values, BitSet[] nulls, int rowCount) {
+    this.columnNames = Collections.unmodifiableList(columnNames);
+    this.columnIndexes = columnIndexes;
+    this.columnTypes = columnTypes;
+    this.values = values;
+    this.nulls = nulls;
+    this.rowCount = rowCount;
+  }
+
+  public List<String> getColumnNames() {
+    return columnNames;
+  }
+
+  public int getRowCount() {
+    return rowCount;
+  }
+
+  public ColumnType getColumnType(String column) {
+    return columnTypes[indexOf(column)];
+  }
+
+  /**
+   * Returns the values of a column stored as {@link ColumnType#INT}.
+   *
+   * @param column
+   *          the column label (case insensitive)
+   *
+   * @return the values, one per row
+   */
+  public int[] getInts(String column) {
+    return (int[]) values(column, ColumnType.INT);
+  }
+
+  /**
+   * Returns the values of a column stored as {@link ColumnType#LONG}.
+   *
+   * @param column
+   *          the column label (case insensitive)
+   *
+   * @return the values, one per row
+   */
+  public long[] getLongs(String column) {
+    return (long[]) values(column, ColumnType.LONG);
+  }
+
+  /**
+   * Returns the values of a column stored as {@link ColumnType#DOUBLE}.
+   *
+   * @param column
+   *          the column label (case insensitive)
+   *
+   * @return the values, one per row
+   */
+  public double[] getDoubles(String column) {
+    return (double[]) values(column, ColumnType.DOUBLE);
+  }
+
+  /**
+   * Returns the values of a column stored as {@link ColumnType#OBJECT}.
+   *
+   * @param column
+   *          the column label (case insensitive)
+   *
+   * @return the values, one per row
+   */
+  public Object[] getObjects(String column) {
+    return (Object[]) values(column, ColumnType.OBJECT);
+  }
+
+  /**
+   * Returns the rows whose value of the column is SQL {@code NULL}. The returned set must not be modified.
+   *
+   * @param column
+   *          the column label (case insensitive)
+   *
+   * @return the null rows
+   */
+  public BitSet getNulls(String column) {
+    return nulls[indexOf(column)];
+  }
+
+  public boolean isNull(String column, int row) {
+    return nulls[indexOf(column)].get(row);
+  }
+
+  private Object values(String column, ColumnType columnType) {
+    final int index = indexOf(column);
+    if (columnTypes[index] != columnType) {
+      throw new ExecutorException(
+          "Column '" + column + "' is stored as " + columnTypes[index] + ", not as " + columnType + ".");
+    }
+    return values[index];
+  }
+
+  private int indexOf(String column) {
+    final Integer index = columnIndexes.get(column.toUpperCase(Locale.ENGLISH));
+    if (index == null) {
+      throw new ExecutorException("Column '" + column + "' not found. Available columns are " + columnNames + ".");
+    }
+    return index;
+  }
+
+}
@@ -0,0 +1,191 @@
+/*
+ *    Copyright 2009-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.apache.ibatis.executor.result;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.apache.ibatis.executor.ExecutorException;
+import org.apache.ibatis.executor.result.ColumnarResult.ColumnType;
+import org.apache.ibatis.executor.resultset.ResultSetWrapper;
+import org.apache.ibatis.session.ResultContext;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.type.JdbcType;
+import org.apache.ibatis.type.TypeHandler;
+
+/**
+ * Reads a result set into a {@link ColumnarResult} instead of mapping its rows to objects.
+ * <p>
+ * The result set handler hands the first result set of the statement to {@link #handleResultSet(ResultSetWrapper, int)}
+ * when it is given this handler; result maps are not used. Integer, big integer and floating point columns are read
+ * with {@link ResultSet#getInt(int)}, {@link ResultSet#getLong(int)} and {@link ResultSet#getDouble(int)}, the
+ * primitive readers the built-in type handlers use, other columns with the type handler resolved for their JDBC type.
+ *
+ * @since 3.5.18
+ */
+public class ColumnarResultHandler implements ResultHandler<Object> {
+
+  private static final int INITIAL_CAPACITY = 1024;
+
+  private ColumnarResult result;
+
+  @Override
+  public void handleResult(ResultContext<?> context) {
+    throw new ExecutorException("ColumnarResultHandler reads result sets, not mapped objects.");
+  }
+
+  /**
+   * Reads the remaining rows of the result set. Only the first result set of a statement is read.
+   *
+   * @param rsw
+   *          the result set, positioned before the first row to read
+   * @param maxRows
+   *          the maximum number of rows to read
+   *
+   * @throws SQLException
+   *           if a value cannot be read
+   */
+  public void handleResultSet(ResultSetWrapper rsw, int maxRows) throws SQLException {
+    if (result != null) {
+      return;
+    }
+    final ResultSet rs = rsw.getResultSet();
+    final List<String> columnNames = new ArrayList<>(rsw.getColumnNames());
+    final int columnCount = columnNames.size();
+    final Map<String, Integer> columnIndexes = new HashMap<>();
+    final ColumnType[] columnTypes = new ColumnType[columnCount];
+    final TypeHandler<?>[] typeHandlers = new TypeHandler<?>[columnCount];
+    final Object[] values = new Object[columnCount];
+    final BitSet[] nulls = new BitSet[columnCount];
+    for (int i = 0; i < columnCount; i++) {
+      final String columnName = columnNames.get(i);
+      columnIndexes.putIfAbsent(columnName.toUpperCase(Locale.ENGLISH), i);
+      columnTypes[i] = resolveColumnType(rsw.getJdbcTypes().get(i), rsw.getClassNames().get(i));
+      if (columnTypes[i] == ColumnType.OBJECT) {
+        typeHandlers[i] = rsw.getTypeHandler(Object.class, columnName);
+      }
+      values[i] = newArray(columnTypes[i], INITIAL_CAPACITY);
+      nulls[i] = new BitSet();
+    }
+    int capacity = INITIAL_CAPACITY;
+    int row = 0;
+    while (row < maxRows && !rs.isClosed() && rs.next()) {
+      if (row == capacity) {
+        capacity <<= 1;
+        for (int i = 0; i < columnCount; i++) {
+          values[i] = resize(columnTypes[i], values[i], capacity);
+        }
+      }
+      for (int i = 0; i < columnCount; i++) {
+        final int columnIndex = i + 1;
+        switch (columnTypes[i]) {
+          case INT:
+            ((int[]) values[i])[row] = rs.getInt(columnIndex);
+            break;
+          case LONG:
+            ((long[]) values[i])[row] = rs.getLong(columnIndex);
+            break;
+          case DOUBLE:
+            ((double[]) values[i])[row] = rs.getDouble(columnIndex);
+            break;
+          default:
+            ((Object[]) values[i])[row] = typeHandlers[i].getResult(rs, columnIndex);
+            break;
+        }
+        if (rs.wasNull()) {
+          nulls[i].set(row);
+        }
+      }
+      row++;
+    }
+    for (int i = 0; i < columnCount; i++) {
+      values[i] = resize(columnTypes[i], values[i], row);
+    }
+    result = new ColumnarResult(columnNames, columnIndexes, columnTypes, values, nulls, row);
+  }
+
+  /**
+   * Returns the columns read, or an empty result if the statement returned no result set.
+   *
+   * @return the result
+   */
+  public ColumnarResult getResult() {
+    if (result == null) {
+      return new ColumnarResult(new ArrayList<>(), new HashMap<>(), new ColumnType[0], new Object[0], new BitSet[0],
+          0);
+    }
+    return result;
+  }
+
+  private static ColumnType resolveColumnType(JdbcType jdbcType, String className) {
+    if (jdbcType == null) {
+      return ColumnType.OBJECT;
+    }
+    switch (jdbcType) {
+      case TINYINT:
+      case SMALLINT:
+      case INTEGER:
+        // e.g. unsigned integers are reported as Long
+        if (className == null || "java.lang.Integer".equals(className) || "java.lang.Short".equals(className)
+            || "java.lang.Byte".equals(className)) {
+          return ColumnType.INT;
+        }
+        return "java.lang.Long".equals(className) ? ColumnType.LONG : ColumnType.OBJECT;
+      case BIGINT:
+        return className == null || "java.lang.Long".equals(className) ? ColumnType.LONG : ColumnType.OBJECT;
+      case REAL:
+      case FLOAT:
+      case DOUBLE:
+        return ColumnType.DOUBLE;
+      default:
+        return ColumnType.OBJECT;
+    }
+  }
+
+  private static Object newArray(ColumnType columnType, int length) {
+    switch (columnType) {
+      case INT:
+        return new int[length];
+      case LONG:
+        return new long[length];
+      case DOUBLE:
+        return new double[length];
+      default:
+        return new Object[length];
+    }
+  }
+
+  private static Object resize(ColumnType columnType, Object array, int length) {
+    switch (columnType) {
+      case INT:
+        return Arrays.copyOf((int[]) array, length);
+      case LONG:
+        return Arrays.copyOf((long[]) array, length);
+      case DOUBLE:
+        return Arrays.copyOf((double[]) array, length);
+      default:
+        return Arrays.copyOf((Object[]) array, length);
+    }
+  }
+
+}
@@ -0,0 +1,214 @@
+/*
+ *    Copyright 2009-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.apache.ibatis.executor.resultset;
+
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.ibatis.io.Resources;
+import org.apache.ibatis.type.JdbcType;
+import org.apache.ibatis.type.ObjectTypeHandler;
+import org.apache.ibatis.type.TypeHandler;
+import org.apache.ibatis.type.TypeHandlerRegistry;
+import org.apache.ibatis.type.UnknownTypeHandler;
+
+/**
+ * The columns of a result set as reported by its {@link ResultSetMetaData}, together with the type handlers and
+ * column indexes resolved for them.
+ * <p>
+ * Reading the metadata and resolving handlers costs a driver call per column and attribute and, for unknown types, a
+ * class lookup per column, which is a noticeable part of short queries. A statement that produces the same SQL returns
+ * the same columns, so signatures are shared through
+ * {@link org.apache.ibatis.session.Configuration#getColumnSignatureCache()} under the statement id, the SQL and the
+ * position of the result set. A cached signature is only reused when the column count of the result set still
+ * matches.
+ */
+public final class ColumnSignature {
+
+  private final List<String> columnNames;
+  private final List<JdbcType> jdbcTypes;
+  private final List<String> classNames;
+  private final Map<String, Map<Class<?>, TypeHandler<?>>> typeHandlerMap = new ConcurrentHashMap<>();
+  private final Map<String, Integer> columnIndexes = new ConcurrentHashMap<>();
+
+  private ColumnSignature(List<String> columnNames, List<JdbcType> jdbcTypes, List<String> classNames) {
+    this.columnNames = Collections.unmodifiableList(columnNames);
+    this.jdbcTypes = Collections.unmodifiableList(jdbcTypes);
+    this.classNames = Collections.unmodifiableList(classNames);
+  }
+
+  static ColumnSignature read(ResultSetMetaData metaData, boolean useColumnLabel) throws SQLException {
+    final int columnCount = metaData.getColumnCount();
+    final List<String> columnNames = new ArrayList<>(columnCount);
+    final List<JdbcType> jdbcTypes = new ArrayList<>(columnCount);
+    final List<String> classNames = new ArrayList<>(columnCount);
+    for (int i = 1; i <= columnCount; i++) {
+      columnNames.add(useColumnLabel ? metaData.getColumnLabel(i) : metaData.getColumnName(i));
+      jdbcTypes.add(JdbcType.forCode(metaData.getColumnType(i)));
+      classNames.add(metaData.getColumnClassName(i));
+    }
+    return new ColumnSignature(columnNames, jdbcTypes, classNames);
+  }
+
+  int getColumnCount() {
+    return columnNames.size();
+  }
+
+  List<String> getColumnNames() {
+    return columnNames;
+  }
+
+  List<JdbcType> getJdbcTypes() {
+    return jdbcTypes;
+  }
+
+  List<String> getClassNames() {
+    return classNames;
+  }
+
+  JdbcType getJdbcType(String columnName) {
+    for (int i = 0; i < columnNames.size(); i++) {
+      if (columnNames.get(i).equalsIgnoreCase(columnName)) {
+        return jdbcTypes.get(i);
+      }
+    }
+    return null;
+  }
+
+  TypeHandler<?> getTypeHandler(TypeHandlerRegistry typeHandlerRegistry, Class<?> propertyType, String columnName) {
+    if (propertyType == null) {
+      return resolveTypeHandler(typeHandlerRegistry, null, columnName);
+    }
+    final Map<Class<?>, TypeHandler<?>> columnHandlers = typeHandlerMap.computeIfAbsent(columnName,
+        k -> new ConcurrentHashMap<>());
+    TypeHandler<?> handler = columnHandlers.get(propertyType);
+    if (handler == null) {
+      handler = resolveTypeHandler(typeHandlerRegistry, propertyType, columnName);
+      columnHandlers.putIfAbsent(propertyType, handler);
+    }
+    return handler;
+  }
+
+  private TypeHandler<?> resolveTypeHandler(TypeHandlerRegistry typeHandlerRegistry, Class<?> propertyType,
+      String columnName) {
+    JdbcType jdbcType = getJdbcType(columnName);
+    TypeHandler<?> handler = typeHandlerRegistry.getTypeHandler(propertyType, jdbcType);
+    // Replicate logic of UnknownTypeHandler#resolveTypeHandler
+    // See issue #59 comment 10
+    if (handler == null || handler instanceof UnknownTypeHandler) {
+      final int index = columnNames.indexOf(columnName);
+      final Class<?> javaType = resolveClass(classNames.get(index));
+      if (javaType != null && jdbcType != null) {
+        handler = typeHandlerRegistry.getTypeHandler(javaType, jdbcType);
+      } else if (javaType != null) {
+        handler = typeHandlerRegistry.getTypeHandler(javaType);
+      } else if (jdbcType != null) {
+        handler = typeHandlerRegistry.getTypeHandler(jdbcType);
+      }
+    }
+    if (handler == null || handler instanceof UnknownTypeHandler) {
+      handler = new ObjectTypeHandler();
+    }
+    return handler;
+  }
+
+  private Class<?> resolveClass(String className) {
+    try {
+      // #699 className could be null
+      if (className != null) {
+        return Resources.classForName(className);
+      }
+    } catch (ClassNotFoundException e) {
+      // ignore
+    }
+    return null;
+  }
+
+  int getColumnIndex(String columnName) {
+    Integer index = columnIndexes.get(columnName);
+    if (index == null) {
+      index = 0;
+      for (int i = 0; i < columnNames.size(); i++) {
+        if (columnNames.get(i).equalsIgnoreCase(columnName)) {
+          index = i + 1;
+          break;
+        }
+      }
+      columnIndexes.put(columnName, index);
+    }
+    return index;
+  }
+
+  /**
+   * Identifies the result sets that share a signature: the n-th result set of a statement executed with the same SQL.
+   * The SQL is kept as its length and a 64-bit hash, so that keys of large generated statements do not hold their
+   * text.
+   */
+  public static final class Key {
+    private final String statementId;
+    private final int resultSetIndex;
+    private final int sqlLength;
+    private final long sqlHash;
+    private final int hashCode;
+
+    public Key(String statementId, String sql, int resultSetIndex) {
+      this.statementId = statementId;
+      this.resultSetIndex = resultSetIndex;
+      this.sqlLength = sql.length();
+      this.sqlHash = hash(sql);
+      this.hashCode = 31 * (31 * statementId.hashCode() + Long.hashCode(sqlHash)) + resultSetIndex;
+    }
+
+    private static long hash(String sql) {
+      // FNV-1a
+      long hash = 0xcbf29ce484222325L;
+      for (int i = 0, n = sql.length(); i < n; i++) {
+        hash ^= sql.charAt(i);
+        hash *= 0x100000001b3L;
+      }
+      return hash;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof Key)) {
+        return false;
+      }
+      Key other = (Key) o;
+      return hashCode == other.hashCode && resultSetIndex == other.resultSetIndex && sqlLength == other.sqlLength
+          && sqlHash == other.sqlHash && statementId.equals(other.statementId);
+    }
+
+    @Override
+    public int hashCode() {
+      return hashCode;
+    }
+
+    @Override
+    public String toString() {
+      return statementId + "#" + resultSetIndex + ":" + Long.toHexString(sqlHash);
+    }
+  }
+
+}
@@ -1,5 +1,5 @@
 /*
- *    Copyright 2009-2024 the original author or authors.
+ *    Copyright 2009-2026 the original author or authors.
  *
  *    Licensed under the Apache License, Version 2.0 (the "License");
  *    you may not use this file except in compliance with the License.
@@ -23,7 +23,9 @@ import java.sql.SQLException;
 import java.sql.Statement;
 import java.text.MessageFormat;
 import java.util.ArrayList;
+import java.util.ArrayDeque;
 import java.util.Arrays;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -31,6 +33,9 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
 
 import org.apache.ibatis.annotations.AutomapConstructor;
 import org.apache.ibatis.annotations.Param;
@@ -44,9 +49,11 @@ import org.apache.ibatis.executor.ExecutorException;
 import org.apache.ibatis.executor.loader.ResultLoader;
 import org.apache.ibatis.executor.loader.ResultLoaderMap;
 import org.apache.ibatis.executor.parameter.ParameterHandler;
+import org.apache.ibatis.executor.result.ColumnarResultHandler;
 import org.apache.ibatis.executor.result.DefaultResultContext;
 import org.apache.ibatis.executor.result.DefaultResultHandler;
 import org.apache.ibatis.executor.result.ResultMapException;
+import org.apache.ibatis.executor.resultset.RowMappingPlan.UnMappedColumnAutoMapping;
 import org.apache.ibatis.mapping.BoundSql;
 import org.apache.ibatis.mapping.Discriminator;
 import org.apache.ibatis.mapping.MappedStatement;
@@ -54,6 +61,7 @@ import org.apache.ibatis.mapping.ParameterMapping;
 import org.apache.ibatis.mapping.ParameterMode;
 import org.apache.ibatis.mapping.ResultMap;
 import org.apache.ibatis.mapping.ResultMapping;
+import org.apache.ibatis.mapping.StatementType;
 import org.apache.ibatis.reflection.MetaClass;
 import org.apache.ibatis.reflection.MetaObject;
 import org.apache.ibatis.reflection.ReflectorFactory;
@@ -66,6 +74,7 @@ import org.apache.ibatis.session.RowBounds;
 import org.apache.ibatis.type.JdbcType;
 import org.apache.ibatis.type.TypeHandler;
 import org.apache.ibatis.type.TypeHandlerRegistry;
+import org.apache.ibatis.type.UnknownTypeHandler;
 import org.apache.ibatis.util.MapUtil;
 
 /**
@@ -77,6 +86,16 @@ import org.apache.ibatis.util.MapUtil;
 public class DefaultResultSetHandler implements ResultSetHandler {
 
   private static final Object DEFERRED = new Object();
+  private static final int PARALLEL_MAPPING_CHUNK_SIZE = 256;
+  // only the built-in type handlers are known to read a column the same way by index and by label
+  private static final ClassValue<Boolean> READS_BY_INDEX = new ClassValue<>() {
+    @Override
+    protected Boolean computeValue(Class<?> type) {
+      // the unknown type handler delegates to a handler resolved at runtime, which may be a custom one
+      return type.getClassLoader() == TypeHandler.class.getClassLoader()
+          && TypeHandler.class.getPackageName().equals(type.getPackageName()) && type != UnknownTypeHandler.class;
+    }
+  };
 
   private final Executor executor;
   private final Configuration configuration;
@@ -90,16 +109,22 @@ public class DefaultResultSetHandler implements ResultSetHandler {
   private final ReflectorFactory reflectorFactory;
 
   // nested resultmaps
-  private final Map<CacheKey, Object> nestedResultObjects = new HashMap<>();
+  private final Map<RowKey, RowKey> nestedResultObjects = new HashMap<>();
+  private final RowKey rowKeyProbe = new RowKey();
   private final Map<String, Object> ancestorObjects = new HashMap<>();
   private Object previousRowValue;
+  private boolean cursor;
+
+  // parallel mapping, see RowBuffer
+  private RowBuffer.Reads recordedReads;
+  private RowBuffer rowBuffer;
 
   // multiple resultsets
   private final Map<String, ResultMapping> nextResultMaps = new HashMap<>();
+  private int resultSetIndex;
   private final Map<CacheKey, List<PendingRelation>> pendingRelations = new HashMap<>();
 
-  // Cached Automappings
-  private final Map<String, List<UnMappedColumnAutoMapping>> autoMappingsCache = new HashMap<>();
+  // Constructor auto-mapped columns, kept until the automatic mappings of the row mapping plan are resolved
   private final Map<String, List<String>> constructorAutoMappingColumns = new HashMap<>();
 
   // temporary marking flag that indicate using constructor mapping (use field to reduce memory usage)
@@ -110,20 +135,6 @@ public class DefaultResultSetHandler implements ResultSetHandler {
     public ResultMapping propertyMapping;
   }
 
-  private static class UnMappedColumnAutoMapping {
-    private final String column;
-    private final String property;
-    private final TypeHandler<?> typeHandler;
-    private final boolean primitive;
-
-    public UnMappedColumnAutoMapping(String column, String property, TypeHandler<?> typeHandler, boolean primitive) {
-      this.column = column;
-      this.property = property;
-      this.typeHandler = typeHandler;
-      this.primitive = primitive;
-    }
-  }
-
   public DefaultResultSetHandler(Executor executor, MappedStatement mappedStatement, ParameterHandler parameterHandler,
       ResultHandler<?> resultHandler, BoundSql boundSql, RowBounds rowBounds) {
     this.executor = executor;
@@ -238,6 +249,7 @@ public class DefaultResultSetHandler implements ResultSetHandler {
     }
 
     ResultMap resultMap = resultMaps.get(0);
+    cursor = true;
     return new DefaultCursor<>(this, resultMap, rsw, rowBounds);
   }
 
@@ -253,7 +265,8 @@ public class DefaultResultSetHandler implements ResultSetHandler {
         break;
       }
     }
-    return rs != null ? new ResultSetWrapper(rs, configuration) : null;
+    resultSetIndex = 0;
+    return rs != null ? new ResultSetWrapper(rs, configuration, getColumnSignatureKey()) : null;
   }
 
   private ResultSetWrapper getNextResultSet(Statement stmt) {
@@ -268,7 +281,8 @@ public class DefaultResultSetHandler implements ResultSetHandler {
           if (rs == null) {
             return getNextResultSet(stmt);
           } else {
-            return new ResultSetWrapper(rs, configuration);
+            resultSetIndex++;
+            return new ResultSetWrapper(rs, configuration, getColumnSignatureKey());
           }
         }
       }
@@ -278,6 +292,14 @@ public class DefaultResultSetHandler implements ResultSetHandler {
     return null;
   }
 
+  private ColumnSignature.Key getColumnSignatureKey() {
+    // the result sets of a stored procedure may depend on its arguments
+    if (boundSql == null || mappedStatement.getStatementType() == StatementType.CALLABLE) {
+      return null;
+    }
+    return new ColumnSignature.Key(mappedStatement.getId(), boundSql.getSql(), resultSetIndex);
+  }
+
   private void closeResultSet(ResultSet rs) {
     try {
       if (rs != null) {
@@ -288,8 +310,13 @@ public class DefaultResultSetHandler implements ResultSetHandler {
     }
   }
 
-  private void cleanUpAfterHandlingResultSet() {
+  /**
+   * Releases the objects kept while mapping the rows of a result set, e.g. once a cursor is closed.
+   */
+  public void cleanUpAfterHandlingResultSet() {
     nestedResultObjects.clear();
+    ancestorObjects.clear();
+    previousRowValue = null;
   }
 
   private void validateResultMapsCount(ResultSetWrapper rsw, int resultMapCount) {
@@ -309,6 +336,9 @@ public class DefaultResultSetHandler implements ResultSetHandler {
         DefaultResultHandler defaultResultHandler = new DefaultResultHandler(objectFactory);
         handleRowValues(rsw, resultMap, defaultResultHandler, rowBounds, null);
         multipleResults.add(defaultResultHandler.getResultList());
+      } else if (resultHandler instanceof ColumnarResultHandler) {
+        skipRows(rsw.getResultSet(), rowBounds);
+        ((ColumnarResultHandler) resultHandler).handleResultSet(rsw, rowBounds.getLimit());
       } else {
         handleRowValues(rsw, resultMap, resultHandler, rowBounds, null);
       }
@@ -333,6 +363,8 @@ public class DefaultResultSetHandler implements ResultSetHandler {
       ensureNoRowBounds();
       checkResultHandler();
       handleRowValuesForNestedResultMap(rsw, resultMap, resultHandler, rowBounds, parentMapping);
+    } else if (shouldMapInParallel(rsw, resultMap, parentMapping)) {
+      handleRowValuesForSimpleResultMapInParallel(rsw, resultMap, resultHandler, rowBounds);
     } else {
       handleRowValuesForSimpleResultMap(rsw, resultMap, resultHandler, rowBounds, parentMapping);
     }
@@ -348,7 +380,7 @@ public class DefaultResultSetHandler implements ResultSetHandler {
   }
 
   protected void checkResultHandler() {
-    if (resultHandler != null && configuration.isSafeResultHandlerEnabled() && !mappedStatement.isResultOrdered()) {
+    if (resultHandler != null && configuration.isSafeResultHandlerEnabled() && !isResultOrdered()) {
       throw new ExecutorException(
           "Mapped Statements with nested result mappings cannot be safely used with a custom ResultHandler. "
               + "Use safeResultHandlerEnabled=false setting to bypass this check "
@@ -362,12 +394,152 @@ public class DefaultResultSetHandler implements ResultSetHandler {
     ResultSet resultSet = rsw.getResultSet();
     skipRows(resultSet, rowBounds);
     while (shouldProcessMoreRows(resultContext, rowBounds) && !resultSet.isClosed() && resultSet.next()) {
-      ResultMap discriminatedResultMap = resolveDiscriminatedResultMap(resultSet, resultMap, null);
+      ResultMap discriminatedResultMap = resolveDiscriminatedResultMap(rsw, resultMap, null);
       Object rowValue = getRowValue(rsw, discriminatedResultMap, null);
       storeObject(resultHandler, resultContext, rowValue, parentMapping, resultSet);
     }
   }
 
+  //
+  // HANDLE ROWS FOR SIMPLE RESULTMAP IN PARALLEL
+  //
+
+  private boolean shouldMapInParallel(ResultSetWrapper rsw, ResultMap resultMap, ResultMapping parentMapping) {
+    // rows are mapped without the executor, which is not thread safe, and cursors fetch one row at a time
+    return mappedStatement.isParallelMapping() && !cursor && parentMapping == null
+        && !hasRelatedResults(resultMap, new HashSet<>()) && RowBuffer.canBuffer(rsw.getJdbcTypes());
+  }
+
+  // nested selects and linked result sets need the executor and the handler of the result set
+  private boolean hasRelatedResults(ResultMap resultMap, Set<String> visitedResultMapIds) {
+    if (!visitedResultMapIds.add(resultMap.getId())) {
+      return false;
+    }
+    if (resultMap.hasNestedQueries()) {
+      return true;
+    }
+    for (ResultMapping propertyMapping : resultMap.getPropertyResultMappings()) {
+      if (propertyMapping.getResultSet() != null) {
+        return true;
+      }
+    }
+    final Discriminator discriminator = resultMap.getDiscriminator();
+    if (discriminator != null) {
+      for (String caseResultMapId : discriminator.getDiscriminatorMap().values()) {
+        if (configuration.hasResultMap(caseResultMapId)
+            && hasRelatedResults(configuration.getResultMap(caseResultMapId), visitedResultMapIds)) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Reads rows on the calling thread into chunks that the common fork-join pool maps to objects. The type handlers run
+   * on the calling thread and only the values they return are buffered, see {@link RowBuffer}; the workers create the
+   * result objects and set their properties. The first row of each discriminated result map is mapped on the calling
+   * thread, which records the columns the mapping reads. The results are handed to the result handler in row order. At
+   * most two chunks per worker are in flight, which bounds the memory held by rows read ahead.
+   */
+  private void handleRowValuesForSimpleResultMapInParallel(ResultSetWrapper rsw, ResultMap resultMap,
+      ResultHandler<?> resultHandler, RowBounds rowBounds) throws SQLException {
+    final DefaultResultContext<Object> resultContext = new DefaultResultContext<>();
+    final ResultSet resultSet = rsw.getResultSet();
+    final ForkJoinPool pool = ForkJoinPool.commonPool();
+    final int maxChunksInFlight = Math.max(2, pool.getParallelism() * 2);
+    final Map<ResultMap, RowBuffer.Reads> readsByResultMap = new HashMap<>();
+    final Deque<Future<Object[]>> chunksInFlight = new ArrayDeque<>();
+    skipRows(resultSet, rowBounds);
+    int rowsToRead = rowBounds.getLimit();
+    try {
+      boolean moreRows = true;
+      while (moreRows) {
+        final Object[] rows = new Object[PARALLEL_MAPPING_CHUNK_SIZE];
+        int rowCount = 0;
+        while (rowCount < rows.length && rowsToRead > 0 && !resultSet.isClosed() && resultSet.next()) {
+          final ResultMap discriminatedResultMap = resolveDiscriminatedResultMap(rsw, resultMap, null);
+          final RowBuffer.Reads reads = readsByResultMap.get(discriminatedResultMap);
+          if (reads == null) {
+            rows[rowCount++] = getRecordedRowValue(rsw, discriminatedResultMap, readsByResultMap);
+          } else {
+            rows[rowCount++] = reads.read(resultSet);
+          }
+          rowsToRead--;
+        }
+        moreRows = rowCount == rows.length && rowsToRead > 0;
+        if (rowCount > 0) {
+          final int chunkSize = rowCount;
+          chunksInFlight.add(pool.submit(() -> mapRowBuffers(rsw, rows, chunkSize)));
+        }
+        while (!chunksInFlight.isEmpty() && (chunksInFlight.size() >= maxChunksInFlight || !moreRows)) {
+          for (Object rowValue : getMappedChunk(chunksInFlight.poll())) {
+            if (!shouldProcessMoreRows(resultContext, rowBounds)) {
+              return;
+            }
+            callResultHandler(resultHandler, resultContext, rowValue);
+          }
+        }
+      }
+    } finally {
+      for (Future<Object[]> chunk : chunksInFlight) {
+        chunk.cancel(false);
+      }
+    }
+  }
+
+  private Object getRecordedRowValue(ResultSetWrapper rsw, ResultMap resultMap,
+      Map<ResultMap, RowBuffer.Reads> readsByResultMap) throws SQLException {
+    final RowBuffer.Reads reads = new RowBuffer.Reads(resultMap);
+    recordedReads = reads;
+    try {
+      final Object rowValue = getRowValue(rsw, resultMap, null);
+      readsByResultMap.put(resultMap, reads);
+      return rowValue;
+    } finally {
+      recordedReads = null;
+    }
+  }
+
+  private Object[] mapRowBuffers(ResultSetWrapper rsw, Object[] rows, int rowCount) throws SQLException {
+    // handlers keep per row state, every chunk gets its own
+    final DefaultResultSetHandler handler = new DefaultResultSetHandler(executor, mappedStatement, parameterHandler,
+        resultHandler, boundSql, rowBounds);
+    final ResultSetWrapper bufferedRsw = new ResultSetWrapper(rsw);
+    final Object[] rowValues = new Object[rowCount];
+    for (int i = 0; i < rowCount; i++) {
+      if (rows[i] instanceof RowBuffer) {
+        handler.rowBuffer = (RowBuffer) rows[i];
+        rowValues[i] = handler.getRowValue(bufferedRsw, handler.rowBuffer.getResultMap(), null);
+      } else {
+        // mapped while the reads of its result map were recorded
+        rowValues[i] = rows[i];
+      }
+    }
+    return rowValues;
+  }
+
+  private Object[] getMappedChunk(Future<Object[]> chunk) throws SQLException {
+    try {
+      return chunk.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new ExecutorException("Interrupted while waiting for rows mapped in parallel.", e);
+    } catch (ExecutionException e) {
+      final Throwable cause = e.getCause();
+      if (cause instanceof SQLException) {
+        throw (SQLException) cause;
+      }
+      if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      }
+      if (cause instanceof Error) {
+        throw (Error) cause;
+      }
+      throw new ExecutorException("Error mapping rows in parallel.  Cause: " + cause, cause);
+    }
+  }
+
   private void storeObject(ResultHandler<?> resultHandler, DefaultResultContext<Object> resultContext, Object rowValue,
       ResultMapping parentMapping, ResultSet rs) throws SQLException {
     if (parentMapping != null) {
@@ -426,16 +598,19 @@ public class DefaultResultSetHandler implements ResultSetHandler {
   // GET VALUE FROM ROW FOR NESTED RESULT MAP
   //
 
-  private Object getRowValue(ResultSetWrapper rsw, ResultMap resultMap, CacheKey combinedKey, String columnPrefix,
+  private Object getRowValue(ResultSetWrapper rsw, ResultMap resultMap, RowKey combinedKey, String columnPrefix,
       Object partialObject) throws SQLException {
     final String resultMapId = resultMap.getId();
     Object rowValue = partialObject;
     if (rowValue != null) {
+      // the key of a known object is the stored (canonical) one
       final MetaObject metaObject = configuration.newMetaObject(rowValue);
       putAncestor(rowValue, resultMapId);
       applyNestedResultMappings(rsw, resultMap, metaObject, columnPrefix, combinedKey, false);
       ancestorObjects.remove(resultMapId);
     } else {
+      // detach the key from the probe before nested result maps reuse it
+      combinedKey = combinedKey == null ? null : combinedKey.copy();
       final ResultLoaderMap lazyLoader = new ResultLoaderMap();
       rowValue = createResultObject(rsw, resultMap, lazyLoader, columnPrefix);
       if (rowValue != null && !hasTypeHandlerForResultObject(rsw, resultMap.getType())) {
@@ -452,8 +627,10 @@ public class DefaultResultSetHandler implements ResultSetHandler {
         foundValues = lazyLoader.size() > 0 || foundValues;
         rowValue = foundValues || configuration.isReturnInstanceForEmptyRow() ? rowValue : null;
       }
-      if (combinedKey != CacheKey.NULL_CACHE_KEY) {
-        nestedResultObjects.put(combinedKey, rowValue);
+      if (combinedKey != null && rowValue != null) {
+        // nested objects of this row already refer to this very instance as their parent key
+        combinedKey.setResultObject(rowValue);
+        nestedResultObjects.put(combinedKey, combinedKey);
       }
     }
     return rowValue;
@@ -480,20 +657,16 @@ public class DefaultResultSetHandler implements ResultSetHandler {
 
   private boolean applyPropertyMappings(ResultSetWrapper rsw, ResultMap resultMap, MetaObject metaObject,
       ResultLoaderMap lazyLoader, String columnPrefix) throws SQLException {
-    final Set<String> mappedColumnNames = rsw.getMappedColumnNames(resultMap, columnPrefix);
+    final int[] columnIndexes = rsw.getMappingPlan(resultMap, columnPrefix).getPropertyColumnIndexes();
     boolean foundValues = false;
     final List<ResultMapping> propertyMappings = resultMap.getPropertyResultMappings();
-    for (ResultMapping propertyMapping : propertyMappings) {
-      String column = prependPrefix(propertyMapping.getColumn(), columnPrefix);
-      if (propertyMapping.getNestedResultMapId() != null) {
-        // the user added a column attribute to a nested result map, ignore it
-        column = null;
-      }
-      if (propertyMapping.isCompositeResult()
-          || column != null && mappedColumnNames.contains(column.toUpperCase(Locale.ENGLISH))
-          || propertyMapping.getResultSet() != null) {
+    for (int i = 0; i < columnIndexes.length; i++) {
+      final ResultMapping propertyMapping = propertyMappings.get(i);
+      // the index is 0 if the column is not mapped or the user added a column attribute to a nested result map
+      final int columnIndex = columnIndexes[i];
+      if (propertyMapping.isCompositeResult() || columnIndex > 0 || propertyMapping.getResultSet() != null) {
         Object value = getPropertyMappingValue(rsw.getResultSet(), metaObject, propertyMapping, lazyLoader,
-            columnPrefix);
+            columnPrefix, columnIndex);
         // issue #541 make property optional
         final String property = propertyMapping.getProperty();
         if (property == null) {
@@ -517,7 +690,7 @@ public class DefaultResultSetHandler implements ResultSetHandler {
   }
 
   private Object getPropertyMappingValue(ResultSet rs, MetaObject metaResultObject, ResultMapping propertyMapping,
-      ResultLoaderMap lazyLoader, String columnPrefix) throws SQLException {
+      ResultLoaderMap lazyLoader, String columnPrefix, int columnIndex) throws SQLException {
     if (propertyMapping.getNestedQueryId() != null) {
       return getNestedQueryMappingValue(rs, metaResultObject, propertyMapping, lazyLoader, columnPrefix);
     }
@@ -526,20 +699,20 @@ public class DefaultResultSetHandler implements ResultSetHandler {
       return DEFERRED;
     } else {
       final TypeHandler<?> typeHandler = propertyMapping.getTypeHandler();
-      final String column = prependPrefix(propertyMapping.getColumn(), columnPrefix);
-      return typeHandler.getResult(rs, column);
+      return getColumnValue(rs, typeHandler, columnIndex, prependPrefix(propertyMapping.getColumn(), columnPrefix));
     }
   }
 
   private List<UnMappedColumnAutoMapping> createAutomaticMappings(ResultSetWrapper rsw, ResultMap resultMap,
       MetaObject metaObject, String columnPrefix) throws SQLException {
-    final String mapKey = resultMap.getId() + ":" + columnPrefix;
-    List<UnMappedColumnAutoMapping> autoMapping = autoMappingsCache.get(mapKey);
+    final RowMappingPlan plan = rsw.getMappingPlan(resultMap, columnPrefix);
+    List<UnMappedColumnAutoMapping> autoMapping = plan.getAutoMappings();
     if (autoMapping == null) {
       autoMapping = new ArrayList<>();
-      final List<String> unmappedColumnNames = rsw.getUnmappedColumnNames(resultMap, columnPrefix);
+      final List<String> unmappedColumnNames = new ArrayList<>(plan.getUnmappedColumnNames());
       // Remove the entry to release the memory
-      List<String> mappedInConstructorAutoMapping = constructorAutoMappingColumns.remove(mapKey);
+      List<String> mappedInConstructorAutoMapping = constructorAutoMappingColumns
+          .remove(resultMap.getId() + ":" + columnPrefix);
       if (mappedInConstructorAutoMapping != null) {
         unmappedColumnNames.removeAll(mappedInConstructorAutoMapping);
       }
@@ -561,8 +734,8 @@ public class DefaultResultSetHandler implements ResultSetHandler {
           final Class<?> propertyType = metaObject.getSetterType(property);
           if (typeHandlerRegistry.hasTypeHandler(propertyType, rsw.getJdbcType(columnName))) {
             final TypeHandler<?> typeHandler = rsw.getTypeHandler(propertyType, columnName);
-            autoMapping
-                .add(new UnMappedColumnAutoMapping(columnName, property, typeHandler, propertyType.isPrimitive()));
+            autoMapping.add(new UnMappedColumnAutoMapping(columnName, rsw.getColumnIndex(columnName), property,
+                typeHandler, propertyType.isPrimitive()));
           } else {
             configuration.getAutoMappingUnknownColumnBehavior().doAction(mappedStatement, columnName, property,
                 propertyType);
@@ -572,7 +745,7 @@ public class DefaultResultSetHandler implements ResultSetHandler {
               property != null ? property : propertyName, null);
         }
       }
-      autoMappingsCache.put(mapKey, autoMapping);
+      plan.setAutoMappings(autoMapping);
     }
     return autoMapping;
   }
@@ -583,7 +756,8 @@ public class DefaultResultSetHandler implements ResultSetHandler {
     boolean foundValues = false;
     if (!autoMapping.isEmpty()) {
       for (UnMappedColumnAutoMapping mapping : autoMapping) {
-        final Object value = mapping.typeHandler.getResult(rsw.getResultSet(), mapping.column);
+        final Object value = getColumnValue(rsw.getResultSet(), mapping.typeHandler, mapping.columnIndex,
+            mapping.column);
         if (value != null) {
           foundValues = true;
         }
@@ -705,12 +879,12 @@ public class DefaultResultSetHandler implements ResultSetHandler {
           value = getNestedQueryConstructorValue(rsw.getResultSet(), constructorMapping, columnPrefix);
         } else if (constructorMapping.getNestedResultMapId() != null) {
           String constructorColumnPrefix = getColumnPrefix(columnPrefix, constructorMapping);
-          final ResultMap resultMap = resolveDiscriminatedResultMap(rsw.getResultSet(),
+          final ResultMap resultMap = resolveDiscriminatedResultMap(rsw,
               configuration.getResultMap(constructorMapping.getNestedResultMapId()), constructorColumnPrefix);
           value = getRowValue(rsw, resultMap, constructorColumnPrefix);
         } else {
           final TypeHandler<?> typeHandler = constructorMapping.getTypeHandler();
-          value = typeHandler.getResult(rsw.getResultSet(), prependPrefix(column, columnPrefix));
+          value = getColumnValue(rsw, typeHandler, prependPrefix(column, columnPrefix));
         }
       } catch (ResultMapException | SQLException e) {
         throw new ExecutorException("Could not process result for mapping: " + constructorMapping, e);
@@ -724,9 +898,15 @@ public class DefaultResultSetHandler implements ResultSetHandler {
 
   private Object createByConstructorSignature(ResultSetWrapper rsw, ResultMap resultMap, String columnPrefix,
       Class<?> resultType, List<Class<?>> constructorArgTypes, List<Object> constructorArgs) throws SQLException {
+    final RowMappingPlan plan = rsw.getMappingPlan(resultMap, columnPrefix);
+    Constructor<?> constructor = plan.getAutomappingConstructor();
+    if (constructor == null) {
+      constructor = findConstructorForAutomapping(resultType, rsw).orElseThrow(() -> new ExecutorException(
+          "No constructor found in " + resultType.getName() + " matching " + rsw.getClassNames()));
+      plan.setAutomappingConstructor(constructor);
+    }
     return applyConstructorAutomapping(rsw, resultMap, columnPrefix, resultType, constructorArgTypes, constructorArgs,
-        findConstructorForAutomapping(resultType, rsw).orElseThrow(() -> new ExecutorException(
-            "No constructor found in " + resultType.getName() + " matching " + rsw.getClassNames())));
+        constructor);
   }
 
   private Optional<Constructor<?>> findConstructorForAutomapping(final Class<?> resultType, ResultSetWrapper rsw) {
@@ -787,7 +967,7 @@ public class DefaultResultSetHandler implements ResultSetHandler {
       Class<?> parameterType = parameterTypes[i];
       String columnName = rsw.getColumnNames().get(i);
       TypeHandler<?> typeHandler = rsw.getTypeHandler(parameterType, columnName);
-      Object value = typeHandler.getResult(rsw.getResultSet(), columnName);
+      Object value = getColumnValue(rsw, typeHandler, columnName);
       constructorArgTypes.add(parameterType);
       constructorArgs.add(value);
       foundValues = value != null || foundValues;
@@ -808,12 +988,12 @@ public class DefaultResultSetHandler implements ResultSetHandler {
         if (columnMatchesParam(columnName, paramName, columnPrefix)) {
           Class<?> paramType = param.getType();
           TypeHandler<?> typeHandler = rsw.getTypeHandler(paramType, columnName);
-          Object value = typeHandler.getResult(rsw.getResultSet(), columnName);
+          Object value = getColumnValue(rsw, typeHandler, columnName);
           constructorArgTypes.add(paramType);
           constructorArgs.add(value);
-          final String mapKey = resultMap.getId() + ":" + columnPrefix;
-          if (!autoMappingsCache.containsKey(mapKey)) {
-            MapUtil.computeIfAbsent(constructorAutoMappingColumns, mapKey, k -> new ArrayList<>()).add(columnName);
+          if (rsw.getMappingPlan(resultMap, columnPrefix).getAutoMappings() == null) {
+            MapUtil.computeIfAbsent(constructorAutoMappingColumns, resultMap.getId() + ":" + columnPrefix,
+                k -> new ArrayList<>()).add(columnName);
           }
           columnNotFound = false;
           foundValues = value != null || foundValues;
@@ -858,7 +1038,37 @@ public class DefaultResultSetHandler implements ResultSetHandler {
       columnName = rsw.getColumnNames().get(0);
     }
     final TypeHandler<?> typeHandler = rsw.getTypeHandler(resultType, columnName);
-    return typeHandler.getResult(rsw.getResultSet(), columnName);
+    return getColumnValue(rsw, typeHandler, columnName);
+  }
+
+  private Object getColumnValue(ResultSetWrapper rsw, TypeHandler<?> typeHandler, String columnName)
+      throws SQLException {
+    return getColumnValue(rsw.getResultSet(), typeHandler, rsw.getColumnIndex(columnName), columnName);
+  }
+
+  private Object getColumnValue(ResultSet rs, TypeHandler<?> typeHandler, int columnIndex, String columnName)
+      throws SQLException {
+    if (rowBuffer != null) {
+      return rowBuffer.getValue(typeHandler, columnIndex, columnName);
+    }
+    if (recordedReads != null) {
+      recordedReads.add(typeHandler, columnIndex, columnName);
+    }
+    return readColumnValue(rs, typeHandler, columnIndex, columnName);
+  }
+
+  /**
+   * Reads a column by its index if it is known and the type handler is one of the built-in handlers. Any other handler
+   * may only implement the label based getter properly, or derive other column labels from the label, so it is called
+   * with the label as it always was. A column that is not in the result set also goes through the label so that the
+   * driver reports it.
+   */
+  static Object readColumnValue(ResultSet rs, TypeHandler<?> typeHandler, int columnIndex, String columnName)
+      throws SQLException {
+    if (columnIndex > 0 && READS_BY_INDEX.get(typeHandler.getClass())) {
+      return typeHandler.getResult(rs, columnIndex);
+    }
+    return typeHandler.getResult(rs, columnName);
   }
 
   //
@@ -970,29 +1180,48 @@ public class DefaultResultSetHandler implements ResultSetHandler {
 
   public ResultMap resolveDiscriminatedResultMap(ResultSet rs, ResultMap resultMap, String columnPrefix)
       throws SQLException {
-    Set<String> pastDiscriminators = new HashSet<>();
+    // without a wrapper the discriminator columns are read by label, the metadata of the result set is not needed
+    return resolveDiscriminatedResultMap(rs, null, resultMap, columnPrefix);
+  }
+
+  private ResultMap resolveDiscriminatedResultMap(ResultSetWrapper rsw, ResultMap resultMap, String columnPrefix)
+      throws SQLException {
+    return resolveDiscriminatedResultMap(rsw.getResultSet(), rsw, resultMap, columnPrefix);
+  }
+
+  private ResultMap resolveDiscriminatedResultMap(ResultSet rs, ResultSetWrapper rsw, ResultMap resultMap,
+      String columnPrefix) throws SQLException {
+    Set<String> pastDiscriminators = null;
     Discriminator discriminator = resultMap.getDiscriminator();
     while (discriminator != null) {
-      final Object value = getDiscriminatorValue(rs, discriminator, columnPrefix);
-      final String discriminatedMapId = discriminator.getMapIdFor(String.valueOf(value));
-      if (!configuration.hasResultMap(discriminatedMapId)) {
+      final Object value = getDiscriminatorValue(rs, rsw, resultMap, discriminator, columnPrefix);
+      final ResultMap discriminatedResultMap = discriminator.getResultMapFor(value);
+      if (discriminatedResultMap == null) {
         break;
       }
-      resultMap = configuration.getResultMap(discriminatedMapId);
+      resultMap = discriminatedResultMap;
       Discriminator lastDiscriminator = discriminator;
       discriminator = resultMap.getDiscriminator();
-      if (discriminator == lastDiscriminator || !pastDiscriminators.add(discriminatedMapId)) {
+      if (discriminator == null || discriminator == lastDiscriminator) {
+        break;
+      }
+      if (pastDiscriminators == null) {
+        pastDiscriminators = new HashSet<>();
+      }
+      if (!pastDiscriminators.add(resultMap.getId())) {
         break;
       }
     }
     return resultMap;
   }
 
-  private Object getDiscriminatorValue(ResultSet rs, Discriminator discriminator, String columnPrefix)
-      throws SQLException {
+  private Object getDiscriminatorValue(ResultSet rs, ResultSetWrapper rsw, ResultMap resultMap,
+      Discriminator discriminator, String columnPrefix) throws SQLException {
     final ResultMapping resultMapping = discriminator.getResultMapping();
     final TypeHandler<?> typeHandler = resultMapping.getTypeHandler();
-    return typeHandler.getResult(rs, prependPrefix(resultMapping.getColumn(), columnPrefix));
+    final int columnIndex = rsw == null ? 0
+        : rsw.getMappingPlan(resultMap, columnPrefix).getDiscriminatorColumnIndex();
+    return getColumnValue(rs, typeHandler, columnIndex, prependPrefix(resultMapping.getColumn(), columnPrefix));
   }
 
   private String prependPrefix(String columnName, String prefix) {
@@ -1013,11 +1242,16 @@ public class DefaultResultSetHandler implements ResultSetHandler {
     skipRows(resultSet, rowBounds);
     Object rowValue = previousRowValue;
     while (shouldProcessMoreRows(resultContext, rowBounds) && !resultSet.isClosed() && resultSet.next()) {
-      final ResultMap discriminatedResultMap = resolveDiscriminatedResultMap(resultSet, resultMap, null);
-      final CacheKey rowKey = createRowKey(discriminatedResultMap, rsw, null);
-      Object partialObject = nestedResultObjects.get(rowKey);
+      final ResultMap discriminatedResultMap = resolveDiscriminatedResultMap(rsw, resultMap, null);
+      RowKey rowKey = createRowKey(discriminatedResultMap, rsw, null);
+      final RowKey storedKey = rowKey == null ? null : nestedResultObjects.get(rowKey);
+      Object partialObject = null;
+      if (storedKey != null) {
+        rowKey = storedKey;
+        partialObject = storedKey.getResultObject();
+      }
       // issue #577 && #542
-      if (mappedStatement.isResultOrdered()) {
+      if (isResultOrdered()) {
         if (partialObject == null && rowValue != null) {
           nestedResultObjects.clear();
           storeObject(resultHandler, resultContext, rowValue, parentMapping, resultSet);
@@ -1030,7 +1264,7 @@ public class DefaultResultSetHandler implements ResultSetHandler {
         }
       }
     }
-    if (rowValue != null && mappedStatement.isResultOrdered() && shouldProcessMoreRows(resultContext, rowBounds)) {
+    if (rowValue != null && isResultOrdered() && shouldProcessMoreRows(resultContext, rowBounds)) {
       storeObject(resultHandler, resultContext, rowValue, parentMapping, resultSet);
       previousRowValue = null;
     } else if (rowValue != null) {
@@ -1038,19 +1272,23 @@ public class DefaultResultSetHandler implements ResultSetHandler {
     }
   }
 
+  private boolean isResultOrdered() {
+    return cursor && configuration.isCursorResultOrdered() || mappedStatement.isResultOrdered();
+  }
+
   //
   // NESTED RESULT MAP (JOIN MAPPING)
   //
 
   private boolean applyNestedResultMappings(ResultSetWrapper rsw, ResultMap resultMap, MetaObject metaObject,
-      String parentPrefix, CacheKey parentRowKey, boolean newObject) {
+      String parentPrefix, RowKey parentRowKey, boolean newObject) {
     boolean foundValues = false;
     for (ResultMapping resultMapping : resultMap.getPropertyResultMappings()) {
       final String nestedResultMapId = resultMapping.getNestedResultMapId();
       if (nestedResultMapId != null && resultMapping.getResultSet() == null) {
         try {
           final String columnPrefix = getColumnPrefix(parentPrefix, resultMapping);
-          final ResultMap nestedResultMap = getNestedResultMap(rsw.getResultSet(), nestedResultMapId, columnPrefix);
+          final ResultMap nestedResultMap = getNestedResultMap(rsw, nestedResultMapId, columnPrefix);
           if (resultMapping.getColumnPrefix() == null) {
             // try to fill circular reference only when columnPrefix
             // is not specified for the nested result map (issue #215)
@@ -1062,9 +1300,13 @@ public class DefaultResultSetHandler implements ResultSetHandler {
               continue;
             }
           }
-          final CacheKey rowKey = createRowKey(nestedResultMap, rsw, columnPrefix);
-          final CacheKey combinedKey = combineKeys(rowKey, parentRowKey);
-          Object rowValue = nestedResultObjects.get(combinedKey);
+          RowKey combinedKey = combineKeys(createRowKey(nestedResultMap, rsw, columnPrefix), parentRowKey);
+          Object rowValue = null;
+          final RowKey storedKey = combinedKey == null ? null : nestedResultObjects.get(combinedKey);
+          if (storedKey != null) {
+            combinedKey = storedKey;
+            rowValue = storedKey.getResultObject();
+          }
           boolean knownValue = rowValue != null;
           instantiateCollectionPropertyIfAppropriate(resultMapping, metaObject); // mandatory
           if (anyNotNullColumnHasValue(resultMapping, columnPrefix, rsw)) {
@@ -1100,7 +1342,13 @@ public class DefaultResultSetHandler implements ResultSetHandler {
     if (notNullColumns != null && !notNullColumns.isEmpty()) {
       ResultSet rs = rsw.getResultSet();
       for (String column : notNullColumns) {
-        rs.getObject(prependPrefix(column, columnPrefix));
+        final String prefixedColumn = prependPrefix(column, columnPrefix);
+        final int columnIndex = rsw.getColumnIndex(prefixedColumn);
+        if (columnIndex > 0) {
+          rs.getObject(columnIndex);
+        } else {
+          rs.getObject(prefixedColumn);
+        }
         if (!rs.wasNull()) {
           return true;
         }
@@ -1118,80 +1366,85 @@ public class DefaultResultSetHandler implements ResultSetHandler {
     return true;
   }
 
-  private ResultMap getNestedResultMap(ResultSet rs, String nestedResultMapId, String columnPrefix)
+  private ResultMap getNestedResultMap(ResultSetWrapper rsw, String nestedResultMapId, String columnPrefix)
       throws SQLException {
     ResultMap nestedResultMap = configuration.getResultMap(nestedResultMapId);
-    return resolveDiscriminatedResultMap(rs, nestedResultMap, columnPrefix);
+    return resolveDiscriminatedResultMap(rsw, nestedResultMap, columnPrefix);
   }
 
   //
   // UNIQUE RESULT KEY
   //
 
-  private CacheKey createRowKey(ResultMap resultMap, ResultSetWrapper rsw, String columnPrefix) throws SQLException {
-    final CacheKey cacheKey = new CacheKey();
-    cacheKey.update(resultMap.getId());
-    List<ResultMapping> resultMappings = getResultMappingsForRowKey(resultMap);
+  /**
+   * Fills the reused row key probe for the current row.
+   *
+   * @return the probe, or {@code null} if no column identifies the row
+   */
+  private RowKey createRowKey(ResultMap resultMap, ResultSetWrapper rsw, String columnPrefix) throws SQLException {
+    final RowMappingPlan plan = rsw.getMappingPlan(resultMap, columnPrefix);
+    final RowKey rowKey = rowKeyProbe.reset(plan);
+    final boolean hasValues;
+    List<ResultMapping> resultMappings = plan.getRowKeyResultMappings();
     if (resultMappings.isEmpty()) {
-      if (Map.class.isAssignableFrom(resultMap.getType())) {
-        createRowKeyForMap(rsw, cacheKey);
-      } else {
-        createRowKeyForUnmappedProperties(resultMap, rsw, cacheKey, columnPrefix);
-      }
+      hasValues = createRowKeyForUnmappedColumns(plan, resultMap, rsw, rowKey, columnPrefix);
     } else {
-      createRowKeyForMappedProperties(resultMap, rsw, cacheKey, resultMappings, columnPrefix);
-    }
-    if (cacheKey.getUpdateCount() < 2) {
-      return CacheKey.NULL_CACHE_KEY;
-    }
-    return cacheKey;
-  }
-
-  private CacheKey combineKeys(CacheKey rowKey, CacheKey parentRowKey) {
-    if (rowKey.getUpdateCount() > 1 && parentRowKey.getUpdateCount() > 1) {
-      CacheKey combinedKey;
-      try {
-        combinedKey = rowKey.clone();
-      } catch (CloneNotSupportedException e) {
-        throw new ExecutorException("Error cloning cache key.  Cause: " + e, e);
-      }
-      combinedKey.update(parentRowKey);
-      return combinedKey;
+      hasValues = createRowKeyForMappedProperties(plan, rsw, rowKey, resultMappings, columnPrefix);
     }
-    return CacheKey.NULL_CACHE_KEY;
+    return hasValues ? rowKey.complete(null) : null;
   }
 
-  private List<ResultMapping> getResultMappingsForRowKey(ResultMap resultMap) {
-    List<ResultMapping> resultMappings = resultMap.getIdResultMappings();
-    if (resultMappings.isEmpty()) {
-      resultMappings = resultMap.getPropertyResultMappings();
+  private RowKey combineKeys(RowKey rowKey, RowKey parentRowKey) {
+    if (rowKey != null && parentRowKey != null) {
+      return rowKey.complete(parentRowKey);
     }
-    return resultMappings;
+    return null;
   }
 
-  private void createRowKeyForMappedProperties(ResultMap resultMap, ResultSetWrapper rsw, CacheKey cacheKey,
+  private boolean createRowKeyForMappedProperties(RowMappingPlan plan, ResultSetWrapper rsw, RowKey rowKey,
       List<ResultMapping> resultMappings, String columnPrefix) throws SQLException {
-    for (ResultMapping resultMapping : resultMappings) {
-      if (resultMapping.isSimple()) {
-        final String column = prependPrefix(resultMapping.getColumn(), columnPrefix);
-        final TypeHandler<?> th = resultMapping.getTypeHandler();
-        Set<String> mappedColumnNames = rsw.getMappedColumnNames(resultMap, columnPrefix);
-        // Issue #114
-        if (column != null && mappedColumnNames.contains(column.toUpperCase(Locale.ENGLISH))) {
-          final Object value = th.getResult(rsw.getResultSet(), column);
-          if (value != null || configuration.isReturnInstanceForEmptyRow()) {
-            cacheKey.update(column);
-            cacheKey.update(value);
-          }
+    boolean hasValues = false;
+    final int[] columnIndexes = plan.getRowKeyColumnIndexes();
+    for (int i = 0; i < columnIndexes.length; i++) {
+      // Issue #114 (the index is 0 unless the mapping is simple and its column is mapped)
+      if (columnIndexes[i] > 0) {
+        final ResultMapping resultMapping = resultMappings.get(i);
+        final Object value = getColumnValue(rsw.getResultSet(), resultMapping.getTypeHandler(), columnIndexes[i],
+            prependPrefix(resultMapping.getColumn(), columnPrefix));
+        if (value != null || configuration.isReturnInstanceForEmptyRow()) {
+          rowKey.add(value);
+          hasValues = true;
+        } else {
+          // keep the position so that the plan still tells which column a value belongs to
+          rowKey.add(null);
         }
       }
     }
+    return hasValues;
+  }
+
+  private boolean createRowKeyForUnmappedColumns(RowMappingPlan plan, ResultMap resultMap, ResultSetWrapper rsw,
+      RowKey rowKey, String columnPrefix) throws SQLException {
+    int[] columnIndexes = plan.getUnmappedRowKeyColumnIndexes();
+    if (columnIndexes == null) {
+      columnIndexes = Map.class.isAssignableFrom(resultMap.getType()) ? resolveRowKeyColumnsForMap(rsw)
+          : resolveRowKeyColumnsForUnmappedProperties(resultMap, rsw, columnPrefix);
+      plan.setUnmappedRowKeyColumnIndexes(columnIndexes);
+    }
+    boolean hasValues = false;
+    for (int columnIndex : columnIndexes) {
+      final String value = rsw.getResultSet().getString(columnIndex);
+      rowKey.add(value);
+      hasValues = value != null || hasValues;
+    }
+    return hasValues;
   }
 
-  private void createRowKeyForUnmappedProperties(ResultMap resultMap, ResultSetWrapper rsw, CacheKey cacheKey,
+  private int[] resolveRowKeyColumnsForUnmappedProperties(ResultMap resultMap, ResultSetWrapper rsw,
       String columnPrefix) throws SQLException {
     final MetaClass metaType = MetaClass.forClass(resultMap.getType(), reflectorFactory);
     List<String> unmappedColumnNames = rsw.getUnmappedColumnNames(resultMap, columnPrefix);
+    List<Integer> columnIndexes = new ArrayList<>();
     for (String column : unmappedColumnNames) {
       String property = column;
       if (columnPrefix != null && !columnPrefix.isEmpty()) {
@@ -1202,24 +1455,14 @@ public class DefaultResultSetHandler implements ResultSetHandler {
         property = column.substring(columnPrefix.length());
       }
       if (metaType.findProperty(property, configuration.isMapUnderscoreToCamelCase()) != null) {
-        String value = rsw.getResultSet().getString(column);
-        if (value != null) {
-          cacheKey.update(column);
-          cacheKey.update(value);
-        }
+        columnIndexes.add(rsw.getColumnIndex(column));
       }
     }
+    return columnIndexes.stream().mapToInt(Integer::intValue).toArray();
   }
 
-  private void createRowKeyForMap(ResultSetWrapper rsw, CacheKey cacheKey) throws SQLException {
-    List<String> columnNames = rsw.getColumnNames();
-    for (String columnName : columnNames) {
-      final String value = rsw.getResultSet().getString(columnName);
-      if (value != null) {
-        cacheKey.update(columnName);
-        cacheKey.update(value);
-      }
-    }
+  private int[] resolveRowKeyColumnsForMap(ResultSetWrapper rsw) {
+    return rsw.getColumnNames().stream().mapToInt(rsw::getColumnIndex).toArray();
   }
 
   private void linkObjects(MetaObject metaObject, ResultMapping resultMapping, Object rowValue) {
@@ -1,5 +1,5 @@
 /*
- *    Copyright 2009-2023 the original author or authors.
+ *    Copyright 2009-2026 the original author or authors.
  *
  *    Licensed under the Apache License, Version 2.0 (the "License");
  *    you may not use this file except in compliance with the License.
@@ -18,23 +18,17 @@ package org.apache.ibatis.executor.resultset;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
-import java.util.ArrayList;
-import java.util.Collections;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
 
-import org.apache.ibatis.io.Resources;
 import org.apache.ibatis.mapping.ResultMap;
 import org.apache.ibatis.session.Configuration;
 import org.apache.ibatis.type.JdbcType;
-import org.apache.ibatis.type.ObjectTypeHandler;
 import org.apache.ibatis.type.TypeHandler;
 import org.apache.ibatis.type.TypeHandlerRegistry;
-import org.apache.ibatis.type.UnknownTypeHandler;
+import org.apache.ibatis.util.BoundedConcurrentCache;
 
 /**
  * @author Iwao AVE!
@@ -43,48 +37,80 @@ public class ResultSetWrapper {
 
   private final ResultSet resultSet;
   private final TypeHandlerRegistry typeHandlerRegistry;
-  private final List<String> columnNames = new ArrayList<>();
-  private final List<String> classNames = new ArrayList<>();
-  private final List<JdbcType> jdbcTypes = new ArrayList<>();
-  private final Map<String, Map<Class<?>, TypeHandler<?>>> typeHandlerMap = new HashMap<>();
-  private final Map<String, Set<String>> mappedColumnNamesMap = new HashMap<>();
-  private final Map<String, List<String>> unMappedColumnNamesMap = new HashMap<>();
+  private final ColumnSignature columns;
+  private final Map<ResultMap, RowMappingPlan> mappingPlans = new HashMap<>();
+  private final Map<String, Map<ResultMap, RowMappingPlan>> prefixedMappingPlans = new HashMap<>();
+  private final BoundedConcurrentCache<RowMappingPlan.Key, RowMappingPlan> rowMappingPlanCache;
 
   public ResultSetWrapper(ResultSet rs, Configuration configuration) throws SQLException {
+    this(rs, configuration, null);
+  }
+
+  /**
+   * Creates a wrapper that takes the column metadata from the column signature cache when a signature was stored under
+   * the key and has the same number of columns as the result set.
+   *
+   * @param rs
+   *          the result set
+   * @param configuration
+   *          the configuration
+   * @param signatureKey
+   *          the key of the column signature, or {@code null} to always read the metadata
+   *
+   * @throws SQLException
+   *           if the metadata cannot be read
+   *
+   * @since 3.5.18
+   */
+  public ResultSetWrapper(ResultSet rs, Configuration configuration, ColumnSignature.Key signatureKey)
+      throws SQLException {
     this.typeHandlerRegistry = configuration.getTypeHandlerRegistry();
+    this.rowMappingPlanCache = configuration.getRowMappingPlanCache();
     this.resultSet = rs;
     final ResultSetMetaData metaData = rs.getMetaData();
-    final int columnCount = metaData.getColumnCount();
-    for (int i = 1; i <= columnCount; i++) {
-      columnNames.add(configuration.isUseColumnLabel() ? metaData.getColumnLabel(i) : metaData.getColumnName(i));
-      jdbcTypes.add(JdbcType.forCode(metaData.getColumnType(i)));
-      classNames.add(metaData.getColumnClassName(i));
+    if (signatureKey == null) {
+      this.columns = ColumnSignature.read(metaData, configuration.isUseColumnLabel());
+    } else {
+      final BoundedConcurrentCache<ColumnSignature.Key, ColumnSignature> cache = configuration
+          .getColumnSignatureCache();
+      ColumnSignature signature = cache.get(signatureKey);
+      if (signature == null || signature.getColumnCount() != metaData.getColumnCount()) {
+        signature = ColumnSignature.read(metaData, configuration.isUseColumnLabel());
+        cache.put(signatureKey, signature);
+      }
+      this.columns = signature;
     }
   }
 
+  /**
+   * Creates a wrapper for mapping rows that were read ahead from the result set of {@code source}, sharing its column
+   * signature. It has no result set, the values of the rows come from a {@link RowBuffer}.
+   */
+  ResultSetWrapper(ResultSetWrapper source) {
+    this.typeHandlerRegistry = source.typeHandlerRegistry;
+    this.rowMappingPlanCache = source.rowMappingPlanCache;
+    this.resultSet = null;
+    this.columns = source.columns;
+  }
+
   public ResultSet getResultSet() {
     return resultSet;
   }
 
   public List<String> getColumnNames() {
-    return this.columnNames;
+    return columns.getColumnNames();
   }
 
   public List<String> getClassNames() {
-    return Collections.unmodifiableList(classNames);
+    return columns.getClassNames();
   }
 
   public List<JdbcType> getJdbcTypes() {
-    return jdbcTypes;
+    return columns.getJdbcTypes();
   }
 
   public JdbcType getJdbcType(String columnName) {
-    for (int i = 0; i < columnNames.size(); i++) {
-      if (columnNames.get(i).equalsIgnoreCase(columnName)) {
-        return jdbcTypes.get(i);
-      }
-    }
-    return null;
+    return columns.getJdbcType(columnName);
   }
 
   /**
@@ -99,98 +125,53 @@ public class ResultSetWrapper {
    * @return the type handler
    */
   public TypeHandler<?> getTypeHandler(Class<?> propertyType, String columnName) {
-    TypeHandler<?> handler = null;
-    Map<Class<?>, TypeHandler<?>> columnHandlers = typeHandlerMap.get(columnName);
-    if (columnHandlers == null) {
-      columnHandlers = new HashMap<>();
-      typeHandlerMap.put(columnName, columnHandlers);
-    } else {
-      handler = columnHandlers.get(propertyType);
-    }
-    if (handler == null) {
-      JdbcType jdbcType = getJdbcType(columnName);
-      handler = typeHandlerRegistry.getTypeHandler(propertyType, jdbcType);
-      // Replicate logic of UnknownTypeHandler#resolveTypeHandler
-      // See issue #59 comment 10
-      if (handler == null || handler instanceof UnknownTypeHandler) {
-        final int index = columnNames.indexOf(columnName);
-        final Class<?> javaType = resolveClass(classNames.get(index));
-        if (javaType != null && jdbcType != null) {
-          handler = typeHandlerRegistry.getTypeHandler(javaType, jdbcType);
-        } else if (javaType != null) {
-          handler = typeHandlerRegistry.getTypeHandler(javaType);
-        } else if (jdbcType != null) {
-          handler = typeHandlerRegistry.getTypeHandler(jdbcType);
-        }
-      }
-      if (handler == null || handler instanceof UnknownTypeHandler) {
-        handler = new ObjectTypeHandler();
-      }
-      columnHandlers.put(propertyType, handler);
-    }
-    return handler;
+    return columns.getTypeHandler(typeHandlerRegistry, propertyType, columnName);
   }
 
-  private Class<?> resolveClass(String className) {
-    try {
-      // #699 className could be null
-      if (className != null) {
-        return Resources.classForName(className);
-      }
-    } catch (ClassNotFoundException e) {
-      // ignore
-    }
-    return null;
-  }
-
-  private void loadMappedAndUnmappedColumnNames(ResultMap resultMap, String columnPrefix) throws SQLException {
-    Set<String> mappedColumnNames = new HashSet<>();
-    List<String> unmappedColumnNames = new ArrayList<>();
-    final String upperColumnPrefix = columnPrefix == null ? null : columnPrefix.toUpperCase(Locale.ENGLISH);
-    final Set<String> mappedColumns = prependPrefixes(resultMap.getMappedColumns(), upperColumnPrefix);
-    for (String columnName : columnNames) {
-      final String upperColumnName = columnName.toUpperCase(Locale.ENGLISH);
-      if (mappedColumns.contains(upperColumnName)) {
-        mappedColumnNames.add(upperColumnName);
-      } else {
-        unmappedColumnNames.add(columnName);
-      }
+  /**
+   * Gets the mapping plan of the result map for the columns of this result set. Plans are shared by all executions
+   * reading the same column signature.
+   *
+   * @param resultMap
+   *          the result map
+   * @param columnPrefix
+   *          the column prefix
+   *
+   * @return the row mapping plan
+   */
+  public RowMappingPlan getMappingPlan(ResultMap resultMap, String columnPrefix) {
+    Map<ResultMap, RowMappingPlan> plans = columnPrefix == null ? mappingPlans
+        : prefixedMappingPlans.computeIfAbsent(columnPrefix, k -> new HashMap<>());
+    RowMappingPlan plan = plans.get(resultMap);
+    if (plan == null) {
+      plan = rowMappingPlanCache.computeIfAbsent(
+          new RowMappingPlan.Key(resultMap.getId(), columnPrefix, columns.getColumnNames(), columns.getJdbcTypes(),
+              columns.getClassNames()),
+          k -> new RowMappingPlan(resultMap, columnPrefix, columns.getColumnNames()));
+      plans.put(resultMap, plan);
     }
-    mappedColumnNamesMap.put(getMapKey(resultMap, columnPrefix), mappedColumnNames);
-    unMappedColumnNamesMap.put(getMapKey(resultMap, columnPrefix), unmappedColumnNames);
+    return plan;
   }
 
   public Set<String> getMappedColumnNames(ResultMap resultMap, String columnPrefix) throws SQLException {
-    Set<String> mappedColumnNames = mappedColumnNamesMap.get(getMapKey(resultMap, columnPrefix));
-    if (mappedColumnNames == null) {
-      loadMappedAndUnmappedColumnNames(resultMap, columnPrefix);
-      mappedColumnNames = mappedColumnNamesMap.get(getMapKey(resultMap, columnPrefix));
-    }
-    return mappedColumnNames;
+    return getMappingPlan(resultMap, columnPrefix).getMappedColumnNames();
   }
 
   public List<String> getUnmappedColumnNames(ResultMap resultMap, String columnPrefix) throws SQLException {
-    List<String> unMappedColumnNames = unMappedColumnNamesMap.get(getMapKey(resultMap, columnPrefix));
-    if (unMappedColumnNames == null) {
-      loadMappedAndUnmappedColumnNames(resultMap, columnPrefix);
-      unMappedColumnNames = unMappedColumnNamesMap.get(getMapKey(resultMap, columnPrefix));
-    }
-    return unMappedColumnNames;
-  }
-
-  private String getMapKey(ResultMap resultMap, String columnPrefix) {
-    return resultMap.getId() + ":" + columnPrefix;
+    return getMappingPlan(resultMap, columnPrefix).getUnmappedColumnNames();
   }
 
-  private Set<String> prependPrefixes(Set<String> columnNames, String prefix) {
-    if (columnNames == null || columnNames.isEmpty() || prefix == null || prefix.length() == 0) {
-      return columnNames;
-    }
-    final Set<String> prefixed = new HashSet<>();
-    for (String columnName : columnNames) {
-      prefixed.add(prefix + columnName);
-    }
-    return prefixed;
+  /**
+   * Gets the 1-based index of the column. Like {@link ResultSet#findColumn(String)} the label is matched case
+   * insensitively and the first matching column wins, but the lookup does not reach the driver.
+   *
+   * @param columnName
+   *          the column label (or name if {@code useColumnLabel} is disabled)
+   *
+   * @return the column index, or {@code 0} if the result set has no such column
+   */
+  public int getColumnIndex(String columnName) {
+    return columns.getColumnIndex(columnName);
   }
 
 }
@@ -0,0 +1,121 @@
+/*
+ *    Copyright 2009-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.apache.ibatis.executor.resultset;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+import org.apache.ibatis.executor.ExecutorException;
+import org.apache.ibatis.mapping.ResultMap;
+import org.apache.ibatis.type.JdbcType;
+import org.apache.ibatis.type.TypeHandler;
+
+/**
+ * A row read ahead for parallel mapping: the values the type handlers returned for the columns a result map reads.
+ * <p>
+ * The type handlers run on the thread that reads the result set, against the result set itself, so the values are the
+ * same as with sequential mapping. The columns a result map reads are recorded while its first row is mapped on that
+ * thread (see {@link Reads}). The rows read afterwards are mapped on other threads, where every column read is served
+ * from the buffered values.
+ */
+final class RowBuffer {
+
+  // type handlers may return streams or locators for these, which are only valid while the result set is on the row
+  private static final Set<JdbcType> UNBUFFERABLE_TYPES = EnumSet.of(JdbcType.BLOB, JdbcType.CLOB, JdbcType.NCLOB,
+      JdbcType.ARRAY, JdbcType.STRUCT, JdbcType.REF, JdbcType.SQLXML, JdbcType.DATALINK, JdbcType.CURSOR);
+
+  private final Reads reads;
+  private final Object[] values;
+  private int position;
+
+  private RowBuffer(Reads reads, Object[] values) {
+    this.reads = reads;
+    this.values = values;
+  }
+
+  static boolean canBuffer(List<JdbcType> jdbcTypes) {
+    for (JdbcType jdbcType : jdbcTypes) {
+      if (jdbcType != null && UNBUFFERABLE_TYPES.contains(jdbcType)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  ResultMap getResultMap() {
+    return reads.resultMap;
+  }
+
+  /**
+   * Gets the buffered value of a column read. Reads are expected in the recorded order, any other order is looked up.
+   */
+  Object getValue(TypeHandler<?> typeHandler, int columnIndex, String columnName) {
+    final int index = reads.indexOf(typeHandler, columnIndex, columnName, position);
+    if (index < 0) {
+      throw new ExecutorException("Column '" + columnName + "' of result map '" + reads.resultMap.getId()
+          + "' was not read ahead for parallel mapping.");
+    }
+    position = index + 1;
+    return values[index];
+  }
+
+  /**
+   * The column reads of a discriminated result map, in the order the mapping does them.
+   */
+  static final class Reads {
+    private final ResultMap resultMap;
+    private final List<TypeHandler<?>> typeHandlers = new ArrayList<>();
+    private final List<Integer> columnIndexes = new ArrayList<>();
+    private final List<String> columnNames = new ArrayList<>();
+
+    Reads(ResultMap resultMap) {
+      this.resultMap = resultMap;
+    }
+
+    void add(TypeHandler<?> typeHandler, int columnIndex, String columnName) {
+      typeHandlers.add(typeHandler);
+      columnIndexes.add(columnIndex);
+      columnNames.add(columnName);
+    }
+
+    RowBuffer read(ResultSet rs) throws SQLException {
+      final Object[] values = new Object[typeHandlers.size()];
+      for (int i = 0; i < values.length; i++) {
+        values[i] = DefaultResultSetHandler.readColumnValue(rs, typeHandlers.get(i), columnIndexes.get(i),
+            columnNames.get(i));
+      }
+      return new RowBuffer(this, values);
+    }
+
+    private int indexOf(TypeHandler<?> typeHandler, int columnIndex, String columnName, int from) {
+      final int size = typeHandlers.size();
+      for (int n = 0; n < size; n++) {
+        final int i = (from + n) % size;
+        if (typeHandlers.get(i) == typeHandler && columnIndexes.get(i) == columnIndex
+            && Objects.equals(columnNames.get(i), columnName)) {
+          return i;
+        }
+      }
+      return -1;
+    }
+  }
+
+}
@@ -0,0 +1,134 @@
+/*
+ *    Copyright 2009-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.apache.ibatis.executor.resultset;
+
+import java.util.Arrays;
+
+import org.apache.ibatis.reflection.ArrayUtil;
+
+/**
+ * Identifies the object a row maps to while nested result maps are de-duplicated.
+ * <p>
+ * A key is made of the {@link RowMappingPlan} it was read with, the row key column values and the key of the parent
+ * object. Plans and parent keys are canonical instances, so they are compared by identity, and because a plan fixes
+ * which columns take part in the key the values are compared by position without their column names. The handler
+ * fills a single mutable probe for every lookup and only copies it when a new object is stored, so rows that map to an
+ * already known object do not allocate a key.
+ */
+final class RowKey {
+
+  private RowMappingPlan plan;
+  private RowKey parent;
+  private Object[] values;
+  private int size;
+  private int hashCode;
+  private Object resultObject;
+
+  RowKey() {
+    this.values = new Object[8];
+  }
+
+  private RowKey(RowKey source) {
+    this.plan = source.plan;
+    this.parent = source.parent;
+    this.values = Arrays.copyOf(source.values, source.size);
+    this.size = source.size;
+    this.hashCode = source.hashCode;
+  }
+
+  RowKey reset(RowMappingPlan plan) {
+    this.plan = plan;
+    this.parent = null;
+    for (int i = 0; i < size; i++) {
+      values[i] = null;
+    }
+    this.size = 0;
+    return this;
+  }
+
+  void add(Object value) {
+    if (size == values.length) {
+      values = Arrays.copyOf(values, size << 1);
+    }
+    values[size++] = value;
+  }
+
+  RowKey complete(RowKey parent) {
+    this.parent = parent;
+    int hash = System.identityHashCode(plan);
+    hash = 31 * hash + System.identityHashCode(parent);
+    for (int i = 0; i < size; i++) {
+      hash = 31 * hash + ArrayUtil.hashCode(values[i]);
+    }
+    this.hashCode = hash;
+    return this;
+  }
+
+  /**
+   * Copies this key, detaching it from the reused value array. The copy becomes the canonical key of the new object.
+   *
+   * @return a new key
+   */
+  RowKey copy() {
+    return new RowKey(this);
+  }
+
+  Object getResultObject() {
+    return resultObject;
+  }
+
+  void setResultObject(Object resultObject) {
+    this.resultObject = resultObject;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof RowKey)) {
+      return false;
+    }
+    final RowKey other = (RowKey) o;
+    if (hashCode != other.hashCode || plan != other.plan || parent != other.parent || size != other.size) {
+      return false;
+    }
+    for (int i = 0; i < size; i++) {
+      if (!ArrayUtil.equals(values[i], other.values[i])) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public int hashCode() {
+    return hashCode;
+  }
+
+  @Override
+  public String toString() {
+    final StringBuilder builder = new StringBuilder();
+    if (parent != null) {
+      builder.append(parent).append(" > ");
+    }
+    builder.append(plan).append(':');
+    for (int i = 0; i < size; i++) {
+      builder.append(i == 0 ? "" : ",").append(ArrayUtil.toString(values[i]));
+    }
+    return builder.toString();
+  }
+}
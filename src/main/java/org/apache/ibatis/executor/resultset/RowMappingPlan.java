@@ -0,0 +1,270 @@
+/*
+ *    Copyright 2009-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.apache.ibatis.executor.resultset;
+
+import java.lang.reflect.Constructor;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import org.apache.ibatis.mapping.Discriminator;
+import org.apache.ibatis.mapping.ResultMap;
+import org.apache.ibatis.mapping.ResultMapping;
+import org.apache.ibatis.type.JdbcType;
+import org.apache.ibatis.type.TypeHandler;
+
+/**
+ * The column mapping decisions made for a result map against one result set shape.
+ * <p>
+ * A plan is resolved once per (result map, column prefix, column signature) and shared through
+ * {@link org.apache.ibatis.session.Configuration#getRowMappingPlanCache()} by every execution and session that reads
+ * the same shape. Columns are resolved to their 1-based index up front so that the built-in type handlers read rows with
+ * {@link TypeHandler#getResult(java.sql.ResultSet, int)} instead of a label lookup per column and row. Everything except
+ * the automatic mappings is computed eagerly; the automatic mappings need a result object to introspect and are
+ * published by the first handler that resolves them.
+ */
+public class RowMappingPlan {
+
+  private final Set<String> mappedColumnNames;
+  private final List<String> unmappedColumnNames;
+  private final int[] propertyColumnIndexes;
+  private final List<ResultMapping> rowKeyResultMappings;
+  private final int[] rowKeyColumnIndexes;
+  private final int discriminatorColumnIndex;
+  private volatile List<UnMappedColumnAutoMapping> autoMappings;
+  private volatile int[] unmappedRowKeyColumnIndexes;
+  private volatile Constructor<?> automappingConstructor;
+
+  RowMappingPlan(ResultMap resultMap, String columnPrefix, List<String> columnNames) {
+    Set<String> mapped = new HashSet<>();
+    List<String> unmapped = new ArrayList<>();
+    Map<String, Integer> columnIndexes = new HashMap<>();
+    final String upperColumnPrefix = columnPrefix == null ? null : columnPrefix.toUpperCase(Locale.ENGLISH);
+    final Set<String> mappedColumns = prependPrefixes(resultMap.getMappedColumns(), upperColumnPrefix);
+    for (int i = 0; i < columnNames.size(); i++) {
+      final String columnName = columnNames.get(i);
+      final String upperColumnName = columnName.toUpperCase(Locale.ENGLISH);
+      // JDBC resolves duplicated labels to the first matching column
+      columnIndexes.putIfAbsent(upperColumnName, i + 1);
+      if (mappedColumns.contains(upperColumnName)) {
+        mapped.add(upperColumnName);
+      } else {
+        unmapped.add(columnName);
+      }
+    }
+    this.mappedColumnNames = Collections.unmodifiableSet(mapped);
+    this.unmappedColumnNames = Collections.unmodifiableList(unmapped);
+
+    final List<ResultMapping> propertyMappings = resultMap.getPropertyResultMappings();
+    this.propertyColumnIndexes = new int[propertyMappings.size()];
+    for (int i = 0; i < propertyColumnIndexes.length; i++) {
+      final ResultMapping propertyMapping = propertyMappings.get(i);
+      // the user may have added a column attribute to a nested result map, ignore it
+      if (propertyMapping.getNestedResultMapId() == null) {
+        propertyColumnIndexes[i] = mappedColumnIndex(propertyMapping.getColumn(), upperColumnPrefix, columnIndexes);
+      }
+    }
+    this.rowKeyResultMappings = resultMap.getIdResultMappings().isEmpty() ? propertyMappings
+        : resultMap.getIdResultMappings();
+    this.rowKeyColumnIndexes = new int[rowKeyResultMappings.size()];
+    for (int i = 0; i < rowKeyColumnIndexes.length; i++) {
+      final ResultMapping resultMapping = rowKeyResultMappings.get(i);
+      if (resultMapping.isSimple()) {
+        rowKeyColumnIndexes[i] = mappedColumnIndex(resultMapping.getColumn(), upperColumnPrefix, columnIndexes);
+      }
+    }
+    final Discriminator discriminator = resultMap.getDiscriminator();
+    this.discriminatorColumnIndex = discriminator == null ? 0
+        : columnIndex(discriminator.getResultMapping().getColumn(), upperColumnPrefix, columnIndexes);
+  }
+
+  private int mappedColumnIndex(String column, String upperColumnPrefix, Map<String, Integer> columnIndexes) {
+    return column != null && mappedColumnNames.contains(prependPrefix(column, upperColumnPrefix))
+        ? columnIndex(column, upperColumnPrefix, columnIndexes) : 0;
+  }
+
+  private static int columnIndex(String column, String upperColumnPrefix, Map<String, Integer> columnIndexes) {
+    if (column == null) {
+      return 0;
+    }
+    return columnIndexes.getOrDefault(prependPrefix(column, upperColumnPrefix), 0);
+  }
+
+  private static String prependPrefix(String column, String upperColumnPrefix) {
+    final String upperColumn = column.toUpperCase(Locale.ENGLISH);
+    return upperColumnPrefix == null ? upperColumn : upperColumnPrefix + upperColumn;
+  }
+
+  public Set<String> getMappedColumnNames() {
+    return mappedColumnNames;
+  }
+
+  public List<String> getUnmappedColumnNames() {
+    return unmappedColumnNames;
+  }
+
+  /**
+   * Gets the 1-based column indexes of the property result mappings, in the order of
+   * {@link ResultMap#getPropertyResultMappings()}. The index is {@code 0} for mappings that do not read a column of
+   * this result set.
+   *
+   * @return the column indexes
+   */
+  int[] getPropertyColumnIndexes() {
+    return propertyColumnIndexes;
+  }
+
+  /**
+   * Gets the result mappings that identify a row: the id mappings, or all property mappings if there is none.
+   *
+   * @return the row key result mappings
+   */
+  List<ResultMapping> getRowKeyResultMappings() {
+    return rowKeyResultMappings;
+  }
+
+  /**
+   * Gets the 1-based column indexes of {@link #getRowKeyResultMappings()}. The index is {@code 0} for mappings that do
+   * not take part in the row key.
+   *
+   * @return the column indexes
+   */
+  int[] getRowKeyColumnIndexes() {
+    return rowKeyColumnIndexes;
+  }
+
+  int getDiscriminatorColumnIndex() {
+    return discriminatorColumnIndex;
+  }
+
+  /**
+   * Gets the 1-based column indexes that identify a row when the result map has no row key result mappings. Like the
+   * automatic mappings they depend on the result type and are published by the first handler that resolves them.
+   *
+   * @return the column indexes, or {@code null} if not resolved yet
+   */
+  int[] getUnmappedRowKeyColumnIndexes() {
+    return unmappedRowKeyColumnIndexes;
+  }
+
+  void setUnmappedRowKeyColumnIndexes(int[] unmappedRowKeyColumnIndexes) {
+    this.unmappedRowKeyColumnIndexes = unmappedRowKeyColumnIndexes;
+  }
+
+  /**
+   * Gets the constructor chosen to auto-map a result type that has no default constructor. It is published by the first
+   * handler that resolves it.
+   *
+   * @return the constructor, or {@code null} if not resolved yet
+   */
+  Constructor<?> getAutomappingConstructor() {
+    return automappingConstructor;
+  }
+
+  void setAutomappingConstructor(Constructor<?> automappingConstructor) {
+    this.automappingConstructor = automappingConstructor;
+  }
+
+  List<UnMappedColumnAutoMapping> getAutoMappings() {
+    return autoMappings;
+  }
+
+  void setAutoMappings(List<UnMappedColumnAutoMapping> autoMappings) {
+    this.autoMappings = Collections.unmodifiableList(autoMappings);
+  }
+
+  private static Set<String> prependPrefixes(Set<String> columnNames, String prefix) {
+    if (columnNames == null || columnNames.isEmpty() || prefix == null || prefix.length() == 0) {
+      return columnNames;
+    }
+    final Set<String> prefixed = new HashSet<>();
+    for (String columnName : columnNames) {
+      prefixed.add(prefix + columnName);
+    }
+    return prefixed;
+  }
+
+  static class UnMappedColumnAutoMapping {
+    final String column;
+    final int columnIndex;
+    final String property;
+    final TypeHandler<?> typeHandler;
+    final boolean primitive;
+
+    UnMappedColumnAutoMapping(String column, int columnIndex, String property, TypeHandler<?> typeHandler,
+        boolean primitive) {
+      this.column = column;
+      this.columnIndex = columnIndex;
+      this.property = property;
+      this.typeHandler = typeHandler;
+      this.primitive = primitive;
+    }
+  }
+
+  /**
+   * Identifies a plan. The column signature covers labels, JDBC types and column classes because each of them takes
+   * part in type handler resolution.
+   */
+  public static final class Key {
+    private final String resultMapId;
+    private final String columnPrefix;
+    private final List<String> columnNames;
+    private final List<JdbcType> jdbcTypes;
+    private final List<String> classNames;
+    private final int hashCode;
+
+    Key(String resultMapId, String columnPrefix, List<String> columnNames, List<JdbcType> jdbcTypes,
+        List<String> classNames) {
+      this.resultMapId = resultMapId;
+      this.columnPrefix = columnPrefix;
+      this.columnNames = columnNames;
+      this.jdbcTypes = jdbcTypes;
+      this.classNames = classNames;
+      this.hashCode = Objects.hash(resultMapId, columnPrefix, columnNames, jdbcTypes, classNames);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof Key)) {
+        return false;
+      }
+      Key other = (Key) o;
+      return hashCode == other.hashCode && resultMapId.equals(other.resultMapId)
+          && Objects.equals(columnPrefix, other.columnPrefix) && columnNames.equals(other.columnNames)
+          && jdbcTypes.equals(other.jdbcTypes) && classNames.equals(other.classNames);
+    }
+
+    @Override
+    public int hashCode() {
+      return hashCode;
+    }
+
+    @Override
+    public String toString() {
+      return resultMapId + ":" + columnPrefix + ":" + columnNames;
+    }
+  }
+
+}
@@ -1,5 +1,5 @@
 /*
- *    Copyright 2009-2023 the original author or authors.
+ *    Copyright 2009-2026 the original author or authors.
  *
  *    Licensed under the Apache License, Version 2.0 (the "License");
  *    you may not use this file except in compliance with the License.
@@ -34,14 +34,18 @@ import org.apache.ibatis.session.Configuration;
  */
 public class BoundSql {
 
+  private final Configuration configuration;
   private final String sql;
   private final List<ParameterMapping> parameterMappings;
   private final Object parameterObject;
   private final Map<String, Object> additionalParameters;
   private final MetaObject metaParameters;
+  private Object resolvedParameterObject;
+  private Object[] parameterValues;
 
   public BoundSql(Configuration configuration, String sql, List<ParameterMapping> parameterMappings,
       Object parameterObject) {
+    this.configuration = configuration;
     this.sql = sql;
     this.parameterMappings = parameterMappings;
     this.parameterObject = parameterObject;
@@ -62,12 +66,13 @@ public class BoundSql {
   }
 
   public boolean hasAdditionalParameter(String name) {
-    String paramName = new PropertyTokenizer(name).getName();
+    String paramName = PropertyTokenizer.forPath(name).getName();
     return additionalParameters.containsKey(paramName);
   }
 
   public void setAdditionalParameter(String name, Object value) {
     metaParameters.setValue(name, value);
+    parameterValues = null;
   }
 
   public Object getAdditionalParameter(String name) {
@@ -77,4 +82,66 @@ public class BoundSql {
   public Map<String, Object> getAdditionalParameters() {
     return additionalParameters;
   }
+
+  /**
+   * Gets the values of the parameter mappings. The value of a mapping is read from the additional parameters if there
+   * is one with its property name, otherwise from the parameter object, which is the value itself when it has a type
+   * handler. {@link ParameterMode#OUT} mappings have no value.
+   * <p>
+   * The values are read once and shared by the steps of an execution: the cache key is created from them and the
+   * parameter handler binds them. They are read again for another parameter object or after an additional parameter
+   * was set. Code that changes the parameter object in between, e.g. a plugin intercepting
+   * {@code StatementHandler.parameterize}, must call {@link #clearParameterValues()}. The returned array must not be
+   * modified.
+   *
+   * @param parameterObject
+   *          the parameter object of the execution
+   *
+   * @return the values, one per parameter mapping
+   *
+   * @since 3.5.18
+   */
+  public Object[] getParameterValues(Object parameterObject) {
+    final int size = parameterMappings == null ? 0 : parameterMappings.size();
+    if (parameterValues != null && resolvedParameterObject == parameterObject) {
+      return parameterValues;
+    }
+    final Object[] values = new Object[size];
+    final boolean simpleParameter = parameterObject != null
+        && configuration.getTypeHandlerRegistry().hasTypeHandler(parameterObject.getClass());
+    MetaObject metaObject = null;
+    for (int i = 0; i < size; i++) {
+      final ParameterMapping parameterMapping = parameterMappings.get(i);
+      if (parameterMapping.getMode() != ParameterMode.OUT) {
+        String propertyName = parameterMapping.getProperty();
+        if (hasAdditionalParameter(propertyName)) { // issue #448 ask first for additional params
+          values[i] = getAdditionalParameter(propertyName);
+        } else if (parameterObject == null) {
+          values[i] = null;
+        } else if (simpleParameter) {
+          values[i] = parameterObject;
+        } else {
+          if (metaObject == null) {
+            metaObject = configuration.newMetaObject(parameterObject);
+          }
+          values[i] = metaObject.getValue(propertyName);
+        }
+      }
+    }
+    resolvedParameterObject = parameterObject;
+    parameterValues = values;
+    return values;
+  }
+
+  /**
+   * Discards the parameter values read by {@link #getParameterValues(Object)}, so that the next call reads them again.
+   * Must be called after changing the parameter object or the map of {@link #getAdditionalParameters()} directly once
+   * the values may have been read.
+   *
+   * @since 3.5.18
+   */
+  public void clearParameterValues() {
+    resolvedParameterObject = null;
+    parameterValues = null;
+  }
 }
@@ -1,5 +1,5 @@
 /*
- *    Copyright 2009-2023 the original author or authors.
+ *    Copyright 2009-2026 the original author or authors.
  *
  *    Licensed under the Apache License, Version 2.0 (the "License");
  *    you may not use this file except in compliance with the License.
@@ -17,6 +17,7 @@ package org.apache.ibatis.mapping;
 
 import java.util.Collections;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.ibatis.session.Configuration;
 
@@ -25,8 +26,10 @@ import org.apache.ibatis.session.Configuration;
  */
 public class Discriminator {
 
+  private Configuration configuration;
   private ResultMapping resultMapping;
   private Map<String, String> discriminatorMap;
+  private final Map<Object, ResultMap> resultMapsByValue = new ConcurrentHashMap<>();
 
   Discriminator() {
   }
@@ -35,6 +38,7 @@ public class Discriminator {
     private final Discriminator discriminator = new Discriminator();
 
     public Builder(Configuration configuration, ResultMapping resultMapping, Map<String, String> discriminatorMap) {
+      discriminator.configuration = configuration;
       discriminator.resultMapping = resultMapping;
       discriminator.discriminatorMap = discriminatorMap;
     }
@@ -61,4 +65,37 @@ public class Discriminator {
     return discriminatorMap.get(s);
   }
 
+  /**
+   * Gets the result map a discriminator value selects. Values are matched against the case values by their string
+   * form, but the result map found for a value of a simple type is remembered under the value itself, so later rows
+   * neither convert the value to a string nor look the result map up by id.
+   *
+   * @param value
+   *          the value read from the discriminator column
+   *
+   * @return the result map, or {@code null} if no case matches the value or its result map does not exist
+   *
+   * @since 3.5.18
+   */
+  public ResultMap getResultMapFor(Object value) {
+    ResultMap resultMap = value == null ? null : resultMapsByValue.get(value);
+    if (resultMap == null) {
+      final String mapId = getMapIdFor(String.valueOf(value));
+      if (mapId == null || !configuration.hasResultMap(mapId)) {
+        return null;
+      }
+      resultMap = configuration.getResultMap(mapId);
+      if (isDispatchKey(value)) {
+        resultMapsByValue.put(value, resultMap);
+      }
+    }
+    return resultMap;
+  }
+
+  private static boolean isDispatchKey(Object value) {
+    // only types whose equality agrees with their string form, so the table stays as small as the case list
+    return value instanceof String || value instanceof Integer || value instanceof Long || value instanceof Short
+        || value instanceof Byte || value instanceof Character || value instanceof Boolean || value instanceof Enum;
+  }
+
 }
@@ -1,5 +1,5 @@
 /*
- *    Copyright 2009-2023 the original author or authors.
+ *    Copyright 2009-2026 the original author or authors.
  *
  *    Licensed under the Apache License, Version 2.0 (the "License");
  *    you may not use this file except in compliance with the License.
@@ -57,6 +57,9 @@ public final class MappedStatement {
   private LanguageDriver lang;
   private String[] resultSets;
   private boolean dirtySelect;
+  private boolean parallelMapping;
+  private int chunkSize;
+  private String chunkParameter;
 
   MappedStatement() {
     // constructor disabled
@@ -182,6 +185,21 @@ public final class MappedStatement {
       return this;
     }
 
+    public Builder parallelMapping(boolean parallelMapping) {
+      mappedStatement.parallelMapping = parallelMapping;
+      return this;
+    }
+
+    public Builder chunkSize(int chunkSize) {
+      mappedStatement.chunkSize = chunkSize;
+      return this;
+    }
+
+    public Builder chunkParameter(String chunkParameter) {
+      mappedStatement.chunkParameter = chunkParameter;
+      return this;
+    }
+
     /**
      * Resul sets.
      *
@@ -304,6 +322,39 @@ public final class MappedStatement {
     return dirtySelect;
   }
 
+  /**
+   * Returns whether the rows of a simple result map are mapped to objects in parallel.
+   *
+   * @return {@code true} if rows are read on the calling thread and mapped by the common fork-join pool
+   *
+   * @since 3.5.18
+   */
+  public boolean isParallelMapping() {
+    return parallelMapping;
+  }
+
+  /**
+   * Returns the maximum number of elements of the chunked collection parameter passed to one execution.
+   *
+   * @return the chunk size, or {@code 0} if the statement is executed once regardless of the size of its parameter
+   *
+   * @since 3.5.18
+   */
+  public int getChunkSize() {
+    return chunkSize;
+  }
+
+  /**
+   * Returns the name of the collection parameter that is split into chunks.
+   *
+   * @return the parameter name, or {@code null} if the only collection parameter is chunked
+   *
+   * @since 3.5.18
+   */
+  public String getChunkParameter() {
+    return chunkParameter;
+  }
+
   /**
    * Gets the resul sets.
    *
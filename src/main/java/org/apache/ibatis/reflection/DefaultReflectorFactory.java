@@ -1,5 +1,5 @@
 /*
- *    Copyright 2009-2023 the original author or authors.
+ *    Copyright 2009-2026 the original author or authors.
  *
  *    Licensed under the Apache License, Version 2.0 (the "License");
  *    you may not use this file except in compliance with the License.
@@ -41,8 +41,22 @@ public class DefaultReflectorFactory implements ReflectorFactory {
   public Reflector findForClass(Class<?> type) {
     if (classCacheEnabled) {
       // synchronized (type) removed see issue #461
-      return MapUtil.computeIfAbsent(reflectorMap, type, Reflector::new);
+      return MapUtil.computeIfAbsent(reflectorMap, type, this::newReflector);
     }
+    return newReflector(type);
+  }
+
+  /**
+   * Creates the reflector of a class. Subclasses may override this to customize how property accessors are built.
+   *
+   * @param type
+   *          the class
+   *
+   * @return the reflector
+   *
+   * @since 3.5.18
+   */
+  protected Reflector newReflector(Class<?> type) {
     return new Reflector(type);
   }
 
@@ -0,0 +1,39 @@
+/*
+ *    Copyright 2009-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.apache.ibatis.reflection;
+
+/**
+ * A {@link ReflectorFactory} whose reflectors access properties through generated accessors instead of
+ * {@link java.lang.reflect.Method#invoke(Object, Object...)} and {@link java.lang.reflect.Field}, avoiding the
+ * reflective call overhead when mapping large results.
+ * <p>
+ * Getters and setters are bound with {@link java.lang.invoke.LambdaMetafactory}, fields with method handles. Members
+ * that cannot be accessed this way (e.g. classes in modules that are not open to MyBatis, final fields) silently use
+ * the reflective invokers of {@link DefaultReflectorFactory}.
+ * <p>
+ * Enable it with {@code configuration.setReflectorFactory(new GeneratedAccessorReflectorFactory())} or
+ * {@code <reflectorFactory type="org.apache.ibatis.reflection.GeneratedAccessorReflectorFactory"/>}.
+ *
+ * @since 3.5.18
+ */
+public class GeneratedAccessorReflectorFactory extends DefaultReflectorFactory {
+
+  @Override
+  protected Reflector newReflector(Class<?> type) {
+    return new Reflector(type, true);
+  }
+
+}
@@ -1,5 +1,5 @@
 /*
- *    Copyright 2009-2024 the original author or authors.
+ *    Copyright 2009-2026 the original author or authors.
  *
  *    Licensed under the Apache License, Version 2.0 (the "License");
  *    you may not use this file except in compliance with the License.
@@ -26,6 +26,7 @@ import org.apache.ibatis.reflection.wrapper.CollectionWrapper;
 import org.apache.ibatis.reflection.wrapper.MapWrapper;
 import org.apache.ibatis.reflection.wrapper.ObjectWrapper;
 import org.apache.ibatis.reflection.wrapper.ObjectWrapperFactory;
+import org.apache.ibatis.reflection.wrapper.PropertyPathAccessor;
 
 /**
  * @author Clinton Begin
@@ -37,6 +38,7 @@ public class MetaObject {
   private final ObjectFactory objectFactory;
   private final ObjectWrapperFactory objectWrapperFactory;
   private final ReflectorFactory reflectorFactory;
+  private final boolean directAccess;
 
   private MetaObject(Object object, ObjectFactory objectFactory, ObjectWrapperFactory objectWrapperFactory,
       ReflectorFactory reflectorFactory) {
@@ -56,6 +58,7 @@ public class MetaObject {
     } else {
       this.objectWrapper = new BeanWrapper(this, object);
     }
+    this.directAccess = PropertyPathAccessor.canAccess(this);
   }
 
   public static MetaObject forObject(Object object, ObjectFactory objectFactory,
@@ -111,12 +114,20 @@ public class MetaObject {
   }
 
   public Object getValue(String name) {
-    PropertyTokenizer prop = new PropertyTokenizer(name);
+    PropertyTokenizer prop = PropertyTokenizer.forPath(name);
+    if (prop.hasNext() && directAccess) {
+      return PropertyPathAccessor.getValue(this, prop);
+    }
     return objectWrapper.get(prop);
   }
 
   public void setValue(String name, Object value) {
-    objectWrapper.set(new PropertyTokenizer(name), value);
+    PropertyTokenizer prop = PropertyTokenizer.forPath(name);
+    if (prop.hasNext() && directAccess) {
+      PropertyPathAccessor.setValue(this, prop, value);
+    } else {
+      objectWrapper.set(prop, value);
+    }
   }
 
   public MetaObject metaObjectForProperty(String name) {
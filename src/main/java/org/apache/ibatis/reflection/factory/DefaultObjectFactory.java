@@ -1,5 +1,5 @@
 /*
- *    Copyright 2009-2023 the original author or authors.
+ *    Copyright 2009-2026 the original author or authors.
  *
  *    Licensed under the Apache License, Version 2.0 (the "License");
  *    you may not use this file except in compliance with the License.
@@ -28,6 +28,7 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.SortedSet;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import org.apache.ibatis.reflection.ReflectionException;
@@ -40,6 +41,14 @@ public class DefaultObjectFactory implements ObjectFactory, Serializable {
 
   private static final long serialVersionUID = -8855120656740914948L;
 
+  // Constructors resolved per class and argument types, made accessible on first use if needed
+  private static final ClassValue<Map<List<Class<?>>, Constructor<?>>> constructors = new ClassValue<>() {
+    @Override
+    protected Map<List<Class<?>>, Constructor<?>> computeValue(Class<?> type) {
+      return new ConcurrentHashMap<>();
+    }
+  };
+
   @Override
   public <T> T create(Class<T> type) {
     return create(type, null, null);
@@ -55,29 +64,10 @@ public class DefaultObjectFactory implements ObjectFactory, Serializable {
 
   private <T> T instantiateClass(Class<T> type, List<Class<?>> constructorArgTypes, List<Object> constructorArgs) {
     try {
-      Constructor<T> constructor;
       if (constructorArgTypes == null || constructorArgs == null) {
-        constructor = type.getDeclaredConstructor();
-        try {
-          return constructor.newInstance();
-        } catch (IllegalAccessException e) {
-          if (Reflector.canControlMemberAccessible()) {
-            constructor.setAccessible(true);
-            return constructor.newInstance();
-          }
-          throw e;
-        }
-      }
-      constructor = type.getDeclaredConstructor(constructorArgTypes.toArray(new Class[0]));
-      try {
-        return constructor.newInstance(constructorArgs.toArray(new Object[0]));
-      } catch (IllegalAccessException e) {
-        if (Reflector.canControlMemberAccessible()) {
-          constructor.setAccessible(true);
-          return constructor.newInstance(constructorArgs.toArray(new Object[0]));
-        }
-        throw e;
+        return newInstance(getConstructor(type, Collections.emptyList()));
       }
+      return newInstance(getConstructor(type, constructorArgTypes), constructorArgs.toArray());
     } catch (Exception e) {
       String argTypes = Optional.ofNullable(constructorArgTypes).orElseGet(Collections::emptyList).stream()
           .map(Class::getSimpleName).collect(Collectors.joining(","));
@@ -88,6 +78,32 @@ public class DefaultObjectFactory implements ObjectFactory, Serializable {
     }
   }
 
+  @SuppressWarnings("unchecked")
+  private static <T> Constructor<T> getConstructor(Class<T> type, List<Class<?>> constructorArgTypes)
+      throws NoSuchMethodException {
+    final Map<List<Class<?>>, Constructor<?>> typeConstructors = constructors.get(type);
+    Constructor<?> constructor = typeConstructors.get(constructorArgTypes);
+    if (constructor == null) {
+      constructor = type.getDeclaredConstructor(constructorArgTypes.toArray(new Class[0]));
+      // the given list may be reused by the caller
+      typeConstructors.putIfAbsent(new ArrayList<>(constructorArgTypes), constructor);
+    }
+    return (Constructor<T>) constructor;
+  }
+
+  private static <T> T newInstance(Constructor<T> constructor, Object... args) throws ReflectiveOperationException {
+    try {
+      return constructor.newInstance(args);
+    } catch (IllegalAccessException e) {
+      if (Reflector.canControlMemberAccessible()) {
+        // the constructor is cached, so this happens once per constructor
+        constructor.setAccessible(true);
+        return constructor.newInstance(args);
+      }
+      throw e;
+    }
+  }
+
   protected Class<?> resolveInterface(Class<?> type) {
     Class<?> classToCreate;
     if (type == List.class || type == Collection.class || type == Iterable.class) {
@@ -0,0 +1,73 @@
+/*
+ *    Copyright 2009-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.apache.ibatis.reflection.invoker;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+
+import org.apache.ibatis.reflection.ReflectionException;
+
+/**
+ * A {@link GetFieldInvoker} that reads the field through a method handle instead of {@link Field#get(Object)}.
+ *
+ * @since 3.5.18
+ */
+public class GeneratedGetFieldInvoker extends GetFieldInvoker {
+
+  private final MethodHandle getter;
+
+  private GeneratedGetFieldInvoker(Field field, MethodHandle getter) {
+    super(field);
+    this.getter = getter;
+  }
+
+  /**
+   * Creates an invoker for the field, falling back to a reflective {@link GetFieldInvoker} when the field is static or
+   * the declaring class is not open to MyBatis.
+   *
+   * @param field
+   *          the field
+   *
+   * @return the invoker
+   */
+  public static GetFieldInvoker forField(Field field) {
+    if (Modifier.isStatic(field.getModifiers())) {
+      return new GetFieldInvoker(field);
+    }
+    try {
+      MethodHandle handle = MethodHandles.privateLookupIn(field.getDeclaringClass(), MethodHandles.lookup())
+          .unreflectGetter(field);
+      return new GeneratedGetFieldInvoker(field, handle.asType(MethodType.methodType(Object.class, Object.class)));
+    } catch (IllegalAccessException | RuntimeException e) {
+      return new GetFieldInvoker(field);
+    }
+  }
+
+  @Override
+  public Object invoke(Object target, Object[] args) {
+    try {
+      return getter.invokeExact(target);
+    } catch (RuntimeException | Error e) {
+      throw e;
+    } catch (Throwable t) {
+      throw new ReflectionException("Could not read field through method handle. Cause: " + t, t);
+    }
+  }
+
+}
@@ -1,5 +1,5 @@
 /*
- *    Copyright 2009-2023 the original author or authors.
+ *    Copyright 2009-2026 the original author or authors.
  *
  *    Licensed under the Apache License, Version 2.0 (the "License");
  *    you may not use this file except in compliance with the License.
@@ -17,32 +17,62 @@ package org.apache.ibatis.reflection.property;
 
 import java.util.Iterator;
 
+import org.apache.ibatis.util.BoundedConcurrentCache;
+
 /**
  * @author Clinton Begin
  */
 public class PropertyTokenizer implements Iterator<PropertyTokenizer> {
-  private String name;
+
+  private static final BoundedConcurrentCache<String, PropertyTokenizer> tokenizers = new BoundedConcurrentCache<>(
+      8192);
+  // names bound per foreach iteration, see ForEachSqlNode#ITEM_PREFIX
+  private static final String FOREACH_ITEM_PREFIX = "__frch_";
+
+  private final String name;
   private final String indexedName;
-  private String index;
+  private final String index;
   private final String children;
+  private PropertyTokenizer next;
 
   public PropertyTokenizer(String fullname) {
     int delim = fullname.indexOf('.');
     if (delim > -1) {
-      name = fullname.substring(0, delim);
+      indexedName = fullname.substring(0, delim);
       children = fullname.substring(delim + 1);
     } else {
-      name = fullname;
+      indexedName = fullname;
       children = null;
     }
-    indexedName = name;
-    delim = name.indexOf('[');
+    delim = indexedName.indexOf('[');
     if (delim > -1) {
-      index = name.substring(delim + 1, name.length() - 1);
-      name = name.substring(0, delim);
+      index = indexedName.substring(delim + 1, indexedName.length() - 1);
+      name = indexedName.substring(0, delim);
+    } else {
+      index = null;
+      name = indexedName;
     }
   }
 
+  /**
+   * Gets the tokenizer of a property path. Tokenizers hold no iteration state, so a path is parsed once and its
+   * tokenizer, including the tokenizers of its children, is shared by every caller. Paths of the items bound by
+   * {@code foreach}, which differ for every iteration, are parsed on every call instead of being cached.
+   *
+   * @param fullname
+   *          the property path, e.g. {@code order.items[0].name}
+   *
+   * @return the tokenizer
+   *
+   * @since 3.5.18
+   */
+  public static PropertyTokenizer forPath(String fullname) {
+    if (fullname.startsWith(FOREACH_ITEM_PREFIX)) {
+      return new PropertyTokenizer(fullname);
+    }
+    return tokenizers.computeIfAbsent(fullname, PropertyTokenizer::new);
+  }
+
   public String getName() {
     return name;
   }
@@ -66,7 +96,12 @@ public class PropertyTokenizer implements Iterator<PropertyTokenizer> {
 
   @Override
   public PropertyTokenizer next() {
-    return new PropertyTokenizer(children);
+    PropertyTokenizer next = this.next;
+    if (next == null) {
+      next = forPath(children);
+      this.next = next;
+    }
+    return next;
   }
 
   @Override
@@ -1,5 +1,5 @@
 /*
- *    Copyright 2009-2024 the original author or authors.
+ *    Copyright 2009-2026 the original author or authors.
  *
  *    Licensed under the Apache License, Version 2.0 (the "License");
  *    you may not use this file except in compliance with the License.
@@ -15,11 +15,7 @@
  */
 package org.apache.ibatis.reflection.wrapper;
 
-import java.util.List;
-import java.util.Map;
-
 import org.apache.ibatis.reflection.MetaObject;
-import org.apache.ibatis.reflection.ReflectionException;
 import org.apache.ibatis.reflection.SystemMetaObject;
 import org.apache.ibatis.reflection.property.PropertyTokenizer;
 
@@ -43,74 +39,11 @@ public abstract class BaseWrapper implements ObjectWrapper {
   }
 
   protected Object getCollectionValue(PropertyTokenizer prop, Object collection) {
-    if (collection == null) {
-      throw new ReflectionException("Cannot get the value '" + prop.getIndexedName() + "' because the property '"
-          + prop.getName() + "' is null.");
-    }
-    if (collection instanceof Map) {
-      return ((Map) collection).get(prop.getIndex());
-    }
-    int i = Integer.parseInt(prop.getIndex());
-    if (collection instanceof List) {
-      return ((List) collection).get(i);
-    } else if (collection instanceof Object[]) {
-      return ((Object[]) collection)[i];
-    } else if (collection instanceof char[]) {
-      return ((char[]) collection)[i];
-    } else if (collection instanceof boolean[]) {
-      return ((boolean[]) collection)[i];
-    } else if (collection instanceof byte[]) {
-      return ((byte[]) collection)[i];
-    } else if (collection instanceof double[]) {
-      return ((double[]) collection)[i];
-    } else if (collection instanceof float[]) {
-      return ((float[]) collection)[i];
-    } else if (collection instanceof int[]) {
-      return ((int[]) collection)[i];
-    } else if (collection instanceof long[]) {
-      return ((long[]) collection)[i];
-    } else if (collection instanceof short[]) {
-      return ((short[]) collection)[i];
-    } else {
-      throw new ReflectionException("Cannot get the value '" + prop.getIndexedName() + "' because the property '"
-          + prop.getName() + "' is not Map, List or Array.");
-    }
+    return PropertyPathAccessor.getCollectionValue(prop, collection);
   }
 
   protected void setCollectionValue(PropertyTokenizer prop, Object collection, Object value) {
-    if (collection == null) {
-      throw new ReflectionException("Cannot set the value '" + prop.getIndexedName() + "' because the property '"
-          + prop.getName() + "' is null.");
-    }
-    if (collection instanceof Map) {
-      ((Map) collection).put(prop.getIndex(), value);
-    } else {
-      int i = Integer.parseInt(prop.getIndex());
-      if (collection instanceof List) {
-        ((List) collection).set(i, value);
-      } else if (collection instanceof Object[]) {
-        ((Object[]) collection)[i] = value;
-      } else if (collection instanceof char[]) {
-        ((char[]) collection)[i] = (Character) value;
-      } else if (collection instanceof boolean[]) {
-        ((boolean[]) collection)[i] = (Boolean) value;
-      } else if (collection instanceof byte[]) {
-        ((byte[]) collection)[i] = (Byte) value;
-      } else if (collection instanceof double[]) {
-        ((double[]) collection)[i] = (Double) value;
-      } else if (collection instanceof float[]) {
-        ((float[]) collection)[i] = (Float) value;
-      } else if (collection instanceof int[]) {
-        ((int[]) collection)[i] = (Integer) value;
-      } else if (collection instanceof long[]) {
-        ((long[]) collection)[i] = (Long) value;
-      } else if (collection instanceof short[]) {
-        ((short[]) collection)[i] = (Short) value;
-      } else {
-        throw new ReflectionException("Cannot set the value '" + prop.getIndexedName() + "' because the property '"
-            + prop.getName() + "' is not Map, List or Array.");
-      }
-    }
+    PropertyPathAccessor.setCollectionValue(prop, collection, value);
   }
 
   protected Object getChildValue(PropertyTokenizer prop) {
@@ -128,7 +61,7 @@ public abstract class BaseWrapper implements ObjectWrapper {
         // don't instantiate child path if value is null
         return;
       }
-      metaValue = instantiatePropertyValue(null, new PropertyTokenizer(prop.getName()), metaObject.getObjectFactory());
+      metaValue = instantiatePropertyValue(null, PropertyTokenizer.forPath(prop.getName()), metaObject.getObjectFactory());
     }
     metaValue.setValue(prop.getChildren(), value);
   }
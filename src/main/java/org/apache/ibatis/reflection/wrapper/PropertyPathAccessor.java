@@ -0,0 +1,245 @@
+/*
+ *    Copyright 2009-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.apache.ibatis.reflection.wrapper;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.ibatis.reflection.ExceptionUtil;
+import org.apache.ibatis.reflection.MetaObject;
+import org.apache.ibatis.reflection.ReflectionException;
+import org.apache.ibatis.reflection.ReflectorFactory;
+import org.apache.ibatis.reflection.invoker.Invoker;
+import org.apache.ibatis.reflection.property.PropertyTokenizer;
+
+/**
+ * Reads and writes nested property paths of plain beans and maps without creating a {@link MetaObject} per segment.
+ * <p>
+ * {@link MetaObject} resolves {@code order.customer.address[0].zip} by wrapping every intermediate value in a new meta
+ * object, wrapper and meta class. As long as the values on the path are beans and maps that {@link BeanWrapper} and
+ * {@link MapWrapper} would handle, the same walk is done here with the shared tokenizer of the path and the invokers of
+ * the cached reflectors. Values that need a custom or collection wrapper, and nulls met while setting a value, are
+ * handed over to their meta object so that the result is the same.
+ *
+ * @since 3.5.18
+ */
+public final class PropertyPathAccessor {
+
+  private static final Object[] NO_ARGUMENTS = {};
+
+  private PropertyPathAccessor() {
+    // Prevent Instantiation of Static Class
+  }
+
+  /**
+   * Returns whether the paths of the meta object can be walked directly.
+   *
+   * @param metaObject
+   *          the meta object
+   *
+   * @return {@code true} if the object is wrapped by a plain bean or map wrapper
+   */
+  public static boolean canAccess(MetaObject metaObject) {
+    final Class<?> wrapperType = metaObject.getObjectWrapper().getClass();
+    return wrapperType == BeanWrapper.class || wrapperType == MapWrapper.class;
+  }
+
+  public static Object getValue(MetaObject metaObject, PropertyTokenizer prop) {
+    final ReflectorFactory reflectorFactory = metaObject.getReflectorFactory();
+    Object current = metaObject.getOriginalObject();
+    while (prop.hasNext()) {
+      current = getProperty(current, prop, reflectorFactory);
+      prop = prop.next();
+      if (current == null) {
+        return null;
+      }
+      if (!isPlain(current, metaObject.getObjectWrapperFactory())) {
+        return metaObjectFor(current, metaObject).getObjectWrapper().get(prop);
+      }
+    }
+    return getProperty(current, prop, reflectorFactory);
+  }
+
+  public static void setValue(MetaObject metaObject, PropertyTokenizer prop, Object value) {
+    final ReflectorFactory reflectorFactory = metaObject.getReflectorFactory();
+    MetaObject currentMetaObject = metaObject;
+    Object current = metaObject.getOriginalObject();
+    while (prop.hasNext()) {
+      final Object child = getProperty(current, prop, reflectorFactory);
+      if (child == null || !isPlain(child, metaObject.getObjectWrapperFactory())) {
+        // missing values are instantiated by the wrapper
+        if (currentMetaObject == null) {
+          currentMetaObject = metaObjectFor(current, metaObject);
+        }
+        currentMetaObject.getObjectWrapper().set(prop, value);
+        return;
+      }
+      currentMetaObject = null;
+      current = child;
+      prop = prop.next();
+    }
+    setProperty(current, prop, value, reflectorFactory);
+  }
+
+  private static boolean isPlain(Object object, ObjectWrapperFactory objectWrapperFactory) {
+    return !(object instanceof ObjectWrapper) && !(object instanceof Collection)
+        && !objectWrapperFactory.hasWrapperFor(object);
+  }
+
+  private static MetaObject metaObjectFor(Object object, MetaObject root) {
+    return MetaObject.forObject(object, root.getObjectFactory(), root.getObjectWrapperFactory(),
+        root.getReflectorFactory());
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Object getProperty(Object object, PropertyTokenizer prop, ReflectorFactory reflectorFactory) {
+    if (object instanceof Map) {
+      final Map<String, Object> map = (Map<String, Object>) object;
+      if (prop.getIndex() == null) {
+        return map.get(prop.getName());
+      }
+      return getCollectionValue(prop, "".equals(prop.getName()) ? map : map.get(prop.getName()));
+    }
+    if (prop.getIndex() == null) {
+      return getBeanProperty(object, prop, reflectorFactory);
+    }
+    return getCollectionValue(prop,
+        "".equals(prop.getName()) ? object : getBeanProperty(object, prop, reflectorFactory));
+  }
+
+  @SuppressWarnings("unchecked")
+  private static void setProperty(Object object, PropertyTokenizer prop, Object value,
+      ReflectorFactory reflectorFactory) {
+    if (object instanceof Map) {
+      final Map<String, Object> map = (Map<String, Object>) object;
+      if (prop.getIndex() == null) {
+        map.put(prop.getName(), value);
+      } else {
+        setCollectionValue(prop, "".equals(prop.getName()) ? map : map.get(prop.getName()), value);
+      }
+    } else if (prop.getIndex() == null) {
+      setBeanProperty(object, prop, value, reflectorFactory);
+    } else {
+      setCollectionValue(prop, "".equals(prop.getName()) ? object : getBeanProperty(object, prop, reflectorFactory),
+          value);
+    }
+  }
+
+  private static Object getBeanProperty(Object object, PropertyTokenizer prop, ReflectorFactory reflectorFactory) {
+    try {
+      Invoker method = reflectorFactory.findForClass(object.getClass()).getGetInvoker(prop.getName());
+      try {
+        return method.invoke(object, NO_ARGUMENTS);
+      } catch (Throwable t) {
+        throw ExceptionUtil.unwrapThrowable(t);
+      }
+    } catch (RuntimeException e) {
+      throw e;
+    } catch (Throwable t) {
+      throw new ReflectionException(
+          "Could not get property '" + prop.getName() + "' from " + object.getClass() + ".  Cause: " + t.toString(), t);
+    }
+  }
+
+  private static void setBeanProperty(Object object, PropertyTokenizer prop, Object value,
+      ReflectorFactory reflectorFactory) {
+    try {
+      Invoker method = reflectorFactory.findForClass(object.getClass()).getSetInvoker(prop.getName());
+      Object[] params = { value };
+      try {
+        method.invoke(object, params);
+      } catch (Throwable t) {
+        throw ExceptionUtil.unwrapThrowable(t);
+      }
+    } catch (Throwable t) {
+      throw new ReflectionException("Could not set property '" + prop.getName() + "' of '" + object.getClass()
+          + "' with value '" + value + "' Cause: " + t.toString(), t);
+    }
+  }
+
+  static Object getCollectionValue(PropertyTokenizer prop, Object collection) {
+    if (collection == null) {
+      throw new ReflectionException("Cannot get the value '" + prop.getIndexedName() + "' because the property '"
+          + prop.getName() + "' is null.");
+    }
+    if (collection instanceof Map) {
+      return ((Map) collection).get(prop.getIndex());
+    }
+    int i = Integer.parseInt(prop.getIndex());
+    if (collection instanceof List) {
+      return ((List) collection).get(i);
+    } else if (collection instanceof Object[]) {
+      return ((Object[]) collection)[i];
+    } else if (collection instanceof char[]) {
+      return ((char[]) collection)[i];
+    } else if (collection instanceof boolean[]) {
+      return ((boolean[]) collection)[i];
+    } else if (collection instanceof byte[]) {
+      return ((byte[]) collection)[i];
+    } else if (collection instanceof double[]) {
+      return ((double[]) collection)[i];
+    } else if (collection instanceof float[]) {
+      return ((float[]) collection)[i];
+    } else if (collection instanceof int[]) {
+      return ((int[]) collection)[i];
+    } else if (collection instanceof long[]) {
+      return ((long[]) collection)[i];
+    } else if (collection instanceof short[]) {
+      return ((short[]) collection)[i];
+    } else {
+      throw new ReflectionException("Cannot get the value '" + prop.getIndexedName() + "' because the property '"
+          + prop.getName() + "' is not Map, List or Array.");
+    }
+  }
+
+  static void setCollectionValue(PropertyTokenizer prop, Object collection, Object value) {
+    if (collection == null) {
+      throw new ReflectionException("Cannot set the value '" + prop.getIndexedName() + "' because the property '"
+          + prop.getName() + "' is null.");
+    }
+    if (collection instanceof Map) {
+      ((Map) collection).put(prop.getIndex(), value);
+    } else {
+      int i = Integer.parseInt(prop.getIndex());
+      if (collection instanceof List) {
+        ((List) collection).set(i, value);
+      } else if (collection instanceof Object[]) {
+        ((Object[]) collection)[i] = value;
+      } else if (collection instanceof char[]) {
+        ((char[]) collection)[i] = (Character) value;
+      } else if (collection instanceof boolean[]) {
+        ((boolean[]) collection)[i] = (Boolean) value;
+      } else if (collection instanceof byte[]) {
+        ((byte[]) collection)[i] = (Byte) value;
+      } else if (collection instanceof double[]) {
+        ((double[]) collection)[i] = (Double) value;
+      } else if (collection instanceof float[]) {
+        ((float[]) collection)[i] = (Float) value;
+      } else if (collection instanceof int[]) {
+        ((int[]) collection)[i] = (Integer) value;
+      } else if (collection instanceof long[]) {
+        ((long[]) collection)[i] = (Long) value;
+      } else if (collection instanceof short[]) {
+        ((short[]) collection)[i] = (Short) value;
+      } else {
+        throw new ReflectionException("Cannot set the value '" + prop.getIndexedName() + "' because the property '"
+            + prop.getName() + "' is not Map, List or Array.");
+      }
+    }
+  }
+
+}
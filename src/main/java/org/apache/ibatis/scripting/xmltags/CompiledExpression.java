@@ -0,0 +1,515 @@
+/*
+ *    Copyright 2009-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.apache.ibatis.scripting.xmltags;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.ibatis.reflection.Reflector;
+import org.apache.ibatis.reflection.ReflectorFactory;
+
+/**
+ * A test expression of the common form evaluated without OGNL.
+ * <p>
+ * Most {@code <if test>} and {@code <when test>} expressions are null, empty and size checks of parameters, such as
+ * {@code name != null and name != ''} or {@code list != null and list.size() > 0}. {@link #compile(String)} accepts
+ * property paths, an optional trailing {@code size()}, {@code length()} or {@code isEmpty()} call, {@code null},
+ * {@code true}, {@code false}, string and integer literals, the comparison operators and {@code and}/{@code or}. The
+ * values are read the way OGNL reads them from the bindings of a {@link DynamicContext}. Whenever a value falls outside
+ * what is handled here, e.g. a comparison of a string with a number, {@link #getValue(Object)} returns
+ * {@link #UNRESOLVED} and the expression is evaluated by OGNL, so the result is always the one OGNL would return.
+ *
+ * @since 3.5.18
+ */
+final class CompiledExpression {
+
+  static final Object UNRESOLVED = new Object();
+
+  private static final Set<String> KEYWORDS = new HashSet<>(Arrays.asList("and", "or", "not", "eq", "neq", "lt", "gt",
+      "lte", "gte", "in", "null", "true", "false", "instanceof", "shl", "shr", "ushr", "band", "bor", "xor", "bnot",
+      "new"));
+
+  // names the OGNL map accessor answers itself
+  private static final Set<String> MAP_PROPERTIES = new HashSet<>(
+      Arrays.asList("size", "isEmpty", "keys", "keySet", "values", "class"));
+
+  private final Node root;
+
+  private CompiledExpression(Node root) {
+    this.root = root;
+  }
+
+  /**
+   * Compiles an expression of the supported form.
+   *
+   * @param expression
+   *          the OGNL expression
+   *
+   * @return the compiled expression, or {@code null} if the expression must be evaluated by OGNL
+   */
+  static CompiledExpression compile(String expression) {
+    if (expression == null) {
+      return null;
+    }
+    List<String> tokens = tokenize(expression);
+    if (tokens == null || tokens.isEmpty()) {
+      return null;
+    }
+    Parser parser = new Parser(tokens);
+    Node node = parser.parseOr();
+    return node == null || !parser.atEnd() ? null : new CompiledExpression(node);
+  }
+
+  /**
+   * Evaluates the expression against the bindings of a dynamic context.
+   *
+   * @param bindings
+   *          the bindings
+   *
+   * @return the value, or {@link #UNRESOLVED} if OGNL must evaluate the expression
+   */
+  Object getValue(Object bindings) {
+    if (!(bindings instanceof DynamicContext.ContextMap)) {
+      return UNRESOLVED;
+    }
+    return root.getValue((DynamicContext.ContextMap) bindings);
+  }
+
+  private static List<String> tokenize(String expression) {
+    List<String> tokens = new ArrayList<>();
+    int i = 0;
+    int length = expression.length();
+    while (i < length) {
+      char c = expression.charAt(i);
+      if (Character.isWhitespace(c)) {
+        i++;
+      } else if (Character.isJavaIdentifierStart(c)) {
+        int start = i;
+        while (i < length && Character.isJavaIdentifierPart(expression.charAt(i))) {
+          i++;
+        }
+        tokens.add(expression.substring(start, i));
+      } else if (c >= '0' && c <= '9') {
+        int start = i;
+        while (i < length && expression.charAt(i) >= '0' && expression.charAt(i) <= '9') {
+          i++;
+        }
+        if (i < length && (Character.isJavaIdentifierPart(expression.charAt(i)) || expression.charAt(i) == '.')) {
+          // suffixes, decimals, hexadecimals
+          return null;
+        }
+        tokens.add(expression.substring(start, i));
+      } else if (c == '\'' || c == '"') {
+        int end = expression.indexOf(c, i + 1);
+        if (end < 0 || expression.indexOf('\\', i + 1) >= 0 && expression.indexOf('\\', i + 1) < end) {
+          return null;
+        }
+        tokens.add(expression.substring(i, end + 1));
+        i = end + 1;
+      } else if (i + 1 < length && isTwoCharOperator(c, expression.charAt(i + 1))) {
+        tokens.add(expression.substring(i, i + 2));
+        i += 2;
+      } else if (c == '.' || c == '(' || c == ')' || c == '<' || c == '>') {
+        tokens.add(String.valueOf(c));
+        i++;
+      } else {
+        return null;
+      }
+    }
+    return tokens;
+  }
+
+  private static boolean isTwoCharOperator(char first, char second) {
+    return second == '=' && (first == '=' || first == '!' || first == '<' || first == '>')
+        || first == '&' && second == '&' || first == '|' && second == '|';
+  }
+
+  private static final class Parser {
+    private final List<String> tokens;
+    private int position;
+
+    Parser(List<String> tokens) {
+      this.tokens = tokens;
+    }
+
+    boolean atEnd() {
+      return position == tokens.size();
+    }
+
+    private String peek() {
+      return position < tokens.size() ? tokens.get(position) : null;
+    }
+
+    Node parseOr() {
+      List<Node> operands = new ArrayList<>();
+      do {
+        Node operand = parseAnd();
+        if (operand == null) {
+          return null;
+        }
+        operands.add(operand);
+      } while (accept("or", "||"));
+      return operands.size() == 1 ? operands.get(0) : new Junction(operands.toArray(new Node[0]), false);
+    }
+
+    private Node parseAnd() {
+      List<Node> operands = new ArrayList<>();
+      do {
+        Node operand = parseComparison();
+        if (operand == null) {
+          return null;
+        }
+        operands.add(operand);
+      } while (accept("and", "&&"));
+      return operands.size() == 1 ? operands.get(0) : new Junction(operands.toArray(new Node[0]), true);
+    }
+
+    private Node parseComparison() {
+      Node left = parseOperand();
+      if (left == null) {
+        return null;
+      }
+      Operator operator = Operator.of(peek());
+      if (operator == null) {
+        return left;
+      }
+      position++;
+      Node right = parseOperand();
+      return right == null ? null : new Comparison(operator, left, right);
+    }
+
+    private Node parseOperand() {
+      String token = peek();
+      if (token == null) {
+        return null;
+      }
+      position++;
+      char first = token.charAt(0);
+      if (first == '\'' || first == '"') {
+        String text = token.substring(1, token.length() - 1);
+        // OGNL reads a single character in single quotes as a Character
+        return new Literal(first == '\'' && text.length() == 1 ? (Object) text.charAt(0) : text);
+      }
+      if (first >= '0' && first <= '9') {
+        try {
+          return new Literal(Integer.valueOf(token));
+        } catch (NumberFormatException e) {
+          return null;
+        }
+      }
+      if ("null".equals(token)) {
+        return new Literal(null);
+      }
+      if ("true".equals(token) || "false".equals(token)) {
+        return new Literal(Boolean.valueOf(token));
+      }
+      if (!isIdentifier(token)) {
+        return null;
+      }
+      List<String> names = new ArrayList<>();
+      names.add(token);
+      Call call = null;
+      while (accept(".")) {
+        String name = peek();
+        if (!isIdentifier(name)) {
+          return null;
+        }
+        position++;
+        if (accept("(")) {
+          call = Call.of(name);
+          if (call == null || !accept(")")) {
+            return null;
+          }
+          break;
+        }
+        names.add(name);
+      }
+      if ("(".equals(peek())) {
+        return null;
+      }
+      return new Path(names.toArray(new String[0]), call);
+    }
+
+    private boolean accept(String... expected) {
+      String token = peek();
+      for (String e : expected) {
+        if (e.equals(token)) {
+          position++;
+          return true;
+        }
+      }
+      return false;
+    }
+
+    private static boolean isIdentifier(String token) {
+      return token != null && Character.isJavaIdentifierStart(token.charAt(0)) && !KEYWORDS.contains(token);
+    }
+  }
+
+  private interface Node {
+    Object getValue(DynamicContext.ContextMap bindings);
+  }
+
+  private static final class Literal implements Node {
+    private final Object value;
+
+    Literal(Object value) {
+      this.value = value;
+    }
+
+    @Override
+    public Object getValue(DynamicContext.ContextMap bindings) {
+      return value;
+    }
+  }
+
+  private enum Call {
+    SIZE, LENGTH, IS_EMPTY;
+
+    static Call of(String name) {
+      switch (name) {
+        case "size":
+          return SIZE;
+        case "length":
+          return LENGTH;
+        case "isEmpty":
+          return IS_EMPTY;
+        default:
+          return null;
+      }
+    }
+
+    Object invoke(Object target) {
+      if (target instanceof Collection) {
+        return this == SIZE ? (Object) ((Collection<?>) target).size()
+            : this == IS_EMPTY ? (Object) ((Collection<?>) target).isEmpty() : UNRESOLVED;
+      }
+      if (target instanceof Map) {
+        return this == SIZE ? (Object) ((Map<?, ?>) target).size()
+            : this == IS_EMPTY ? (Object) ((Map<?, ?>) target).isEmpty() : UNRESOLVED;
+      }
+      if (target instanceof String) {
+        return this == LENGTH ? (Object) ((String) target).length()
+            : this == IS_EMPTY ? (Object) ((String) target).isEmpty() : UNRESOLVED;
+      }
+      return UNRESOLVED;
+    }
+  }
+
+  private static final class Path implements Node {
+    private final String[] names;
+    private final Call call;
+
+    Path(String[] names, Call call) {
+      this.names = names;
+      this.call = call;
+    }
+
+    @Override
+    public Object getValue(DynamicContext.ContextMap bindings) {
+      try {
+        Object value = getRootProperty(bindings, names[0]);
+        for (int i = 1; i < names.length; i++) {
+          value = getProperty(bindings.getReflectorFactory(), value, names[i]);
+          if (value == UNRESOLVED) {
+            return UNRESOLVED;
+          }
+        }
+        return call == null ? value : call.invoke(value);
+      } catch (RuntimeException e) {
+        // let OGNL report the error
+        return UNRESOLVED;
+      }
+    }
+
+    // the lookup of DynamicContext.ContextAccessor
+    private static Object getRootProperty(Map<String, Object> bindings, String name) {
+      Object result = bindings.get(name);
+      if (result != null || bindings.containsKey(name)) {
+        return result;
+      }
+      Object parameterObject = bindings.get(DynamicContext.PARAMETER_OBJECT_KEY);
+      if (parameterObject instanceof Map) {
+        return ((Map<?, ?>) parameterObject).get(name);
+      }
+      return null;
+    }
+
+    private static Object getProperty(ReflectorFactory reflectorFactory, Object target, String name) {
+      if (target == null || target instanceof Collection || target instanceof Class || target.getClass().isArray()) {
+        return UNRESOLVED;
+      }
+      if (target instanceof Map) {
+        return MAP_PROPERTIES.contains(name) ? UNRESOLVED : ((Map<?, ?>) target).get(name);
+      }
+      Reflector reflector = reflectorFactory.findForClass(target.getClass());
+      if (!reflector.hasGetter(name)) {
+        return UNRESOLVED;
+      }
+      try {
+        return reflector.getGetInvoker(name).invoke(target, null);
+      } catch (ReflectiveOperationException e) {
+        return UNRESOLVED;
+      }
+    }
+  }
+
+  private enum Operator {
+    EQ, NEQ, LT, GT, LTE, GTE;
+
+    static Operator of(String token) {
+      if (token == null) {
+        return null;
+      }
+      switch (token) {
+        case "==":
+        case "eq":
+          return EQ;
+        case "!=":
+        case "neq":
+          return NEQ;
+        case "<":
+        case "lt":
+          return LT;
+        case ">":
+        case "gt":
+          return GT;
+        case "<=":
+        case "lte":
+          return LTE;
+        case ">=":
+        case "gte":
+          return GTE;
+        default:
+          return null;
+      }
+    }
+  }
+
+  private static final class Comparison implements Node {
+    private final Operator operator;
+    private final Node left;
+    private final Node right;
+
+    Comparison(Operator operator, Node left, Node right) {
+      this.operator = operator;
+      this.left = left;
+      this.right = right;
+    }
+
+    @Override
+    public Object getValue(DynamicContext.ContextMap bindings) {
+      Object v1 = left.getValue(bindings);
+      if (v1 == UNRESOLVED) {
+        return UNRESOLVED;
+      }
+      Object v2 = right.getValue(bindings);
+      if (v2 == UNRESOLVED) {
+        return UNRESOLVED;
+      }
+      if (operator == Operator.EQ || operator == Operator.NEQ) {
+        Boolean equal = isEqual(v1, v2);
+        if (equal == null) {
+          return UNRESOLVED;
+        }
+        return operator == Operator.EQ ? equal : !equal;
+      }
+      if (!isIntegral(v1) || !isIntegral(v2)) {
+        return UNRESOLVED;
+      }
+      int result = Long.compare(((Number) v1).longValue(), ((Number) v2).longValue());
+      switch (operator) {
+        case LT:
+          return result < 0;
+        case GT:
+          return result > 0;
+        case LTE:
+          return result <= 0;
+        default:
+          return result >= 0;
+      }
+    }
+
+    private static Boolean isEqual(Object v1, Object v2) {
+      if (v1 == null || v2 == null) {
+        return v1 == v2;
+      }
+      if (v1 instanceof String && v2 instanceof String || v1 instanceof Boolean && v2 instanceof Boolean) {
+        return v1.equals(v2);
+      }
+      if (isIntegral(v1) && isIntegral(v2)) {
+        return ((Number) v1).longValue() == ((Number) v2).longValue();
+      }
+      return null;
+    }
+
+    private static boolean isIntegral(Object value) {
+      return value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte;
+    }
+  }
+
+  private static final class Junction implements Node {
+    private final Node[] operands;
+    private final boolean and;
+
+    Junction(Node[] operands, boolean and) {
+      this.operands = operands;
+      this.and = and;
+    }
+
+    @Override
+    public Object getValue(DynamicContext.ContextMap bindings) {
+      // like OGNL, return the operand that decided the result
+      Object result = null;
+      for (int i = 0; i < operands.length; i++) {
+        result = operands[i].getValue(bindings);
+        if (result == UNRESOLVED) {
+          return UNRESOLVED;
+        }
+        if (i < operands.length - 1 && isTrue(result) != and) {
+          break;
+        }
+      }
+      return result;
+    }
+
+    // OgnlOps.booleanValue
+    private static boolean isTrue(Object value) {
+      if (value == null) {
+        return false;
+      }
+      if (value instanceof Boolean) {
+        return (Boolean) value;
+      }
+      if (value instanceof String) {
+        return Boolean.parseBoolean((String) value);
+      }
+      if (value instanceof Character) {
+        return (Character) value != 0;
+      }
+      if (value instanceof Number) {
+        return ((Number) value).doubleValue() != 0;
+      }
+      return true;
+    }
+  }
+
+}
@@ -1,5 +1,5 @@
 /*
- *    Copyright 2009-2023 the original author or authors.
+ *    Copyright 2009-2026 the original author or authors.
  *
  *    Licensed under the Apache License, Version 2.0 (the "License");
  *    you may not use this file except in compliance with the License.
@@ -24,6 +24,7 @@ import ognl.OgnlRuntime;
 import ognl.PropertyAccessor;
 
 import org.apache.ibatis.reflection.MetaObject;
+import org.apache.ibatis.reflection.ReflectorFactory;
 import org.apache.ibatis.session.Configuration;
 
 /**
@@ -41,14 +42,15 @@ public class DynamicContext {
   private final ContextMap bindings;
   private final StringJoiner sqlBuilder = new StringJoiner(" ");
   private int uniqueNumber;
+  private SqlShape replayedShape;
 
   public DynamicContext(Configuration configuration, Object parameterObject) {
     if (parameterObject != null && !(parameterObject instanceof Map)) {
       MetaObject metaObject = configuration.newMetaObject(parameterObject);
       boolean existsTypeHandler = configuration.getTypeHandlerRegistry().hasTypeHandler(parameterObject.getClass());
-      bindings = new ContextMap(metaObject, existsTypeHandler);
+      bindings = new ContextMap(metaObject, existsTypeHandler, configuration.getReflectorFactory());
     } else {
-      bindings = new ContextMap(null, false);
+      bindings = new ContextMap(null, false, configuration.getReflectorFactory());
     }
     bindings.put(PARAMETER_OBJECT_KEY, parameterObject);
     bindings.put(DATABASE_ID_KEY, configuration.getDatabaseId());
@@ -74,14 +76,44 @@ public class DynamicContext {
     return uniqueNumber++;
   }
 
+  /**
+   * Generates the SQL of an evaluated shape from now on: the nodes take their branches and iterations from the shape
+   * instead of evaluating expressions, and the values bound while evaluating it are used. The unique numbers of foreach
+   * items start over so that they match the bound items.
+   */
+  void replay(SqlShape shape) {
+    shape.rewind();
+    replayedShape = shape;
+    uniqueNumber = 0;
+  }
+
+  /**
+   * Gets the shape being replayed, see {@link #replay(SqlShape)}.
+   *
+   * @return the shape, or {@code null} if the nodes evaluate their expressions
+   */
+  SqlShape getReplayedShape() {
+    return replayedShape;
+  }
+
   static class ContextMap extends HashMap<String, Object> {
     private static final long serialVersionUID = 2977601501966151582L;
     private final MetaObject parameterMetaObject;
     private final boolean fallbackParameterObject;
+    // used by CompiledExpression to read properties of the bindings
+    private final transient ReflectorFactory reflectorFactory;
+    // reused by OgnlCache while the bindings are evaluated
+    transient OgnlContext ognlContext;
 
-    public ContextMap(MetaObject parameterMetaObject, boolean fallbackParameterObject) {
+    public ContextMap(MetaObject parameterMetaObject, boolean fallbackParameterObject,
+        ReflectorFactory reflectorFactory) {
       this.parameterMetaObject = parameterMetaObject;
       this.fallbackParameterObject = fallbackParameterObject;
+      this.reflectorFactory = reflectorFactory;
+    }
+
+    ReflectorFactory getReflectorFactory() {
+      return reflectorFactory;
     }
 
     @Override
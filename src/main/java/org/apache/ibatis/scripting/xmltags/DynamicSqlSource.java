@@ -1,5 +1,5 @@
 /*
- *    Copyright 2009-2022 the original author or authors.
+ *    Copyright 2009-2026 the original author or authors.
  *
  *    Licensed under the Apache License, Version 2.0 (the "License");
  *    you may not use this file except in compliance with the License.
@@ -15,34 +15,136 @@
  */
 package org.apache.ibatis.scripting.xmltags;
 
+import java.util.List;
+import java.util.Objects;
+
 import org.apache.ibatis.builder.SqlSourceBuilder;
 import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.ParameterMapping;
 import org.apache.ibatis.mapping.SqlSource;
+import org.apache.ibatis.reflection.MetaObject;
 import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.util.BoundedConcurrentCache;
 
 /**
  * @author Clinton Begin
  */
 public class DynamicSqlSource implements SqlSource {
 
+  private static final int MAX_PARSED_SQL = 64;
+
   private final Configuration configuration;
   private final SqlNode rootSqlNode;
+  private final BoundedConcurrentCache<ParsedSqlKey, ParsedSql> parsedSqlCache = new BoundedConcurrentCache<>(
+      MAX_PARSED_SQL);
+  // null when the generated SQL is not determined by the shape of the node tree
+  private final BoundedConcurrentCache<SqlShape, ParsedSql> shapeCache;
 
   public DynamicSqlSource(Configuration configuration, SqlNode rootSqlNode) {
     this.configuration = configuration;
     this.rootSqlNode = rootSqlNode;
+    this.shapeCache = SqlShape.isSupported(rootSqlNode) ? new BoundedConcurrentCache<>(MAX_PARSED_SQL) : null;
   }
 
   @Override
   public BoundSql getBoundSql(Object parameterObject) {
+    Class<?> parameterType = parameterObject == null ? Object.class : parameterObject.getClass();
     DynamicContext context = new DynamicContext(configuration, parameterObject);
+    SqlShape shape = null;
+    if (shapeCache != null && configuration.isDynamicSqlShapeCacheEnabled()) {
+      shape = SqlShape.evaluate(rootSqlNode, context, parameterType);
+      ParsedSql parsedSql = shapeCache.get(shape);
+      if (parsedSql != null && parsedSql.matches(configuration.newMetaObject(context.getBindings()))) {
+        BoundSql boundSql = parsedSql.sqlSource.getBoundSql(parameterObject);
+        context.getBindings().forEach(boundSql::setAdditionalParameter);
+        return boundSql;
+      }
+      // generate the SQL of the new shape without evaluating the expressions again
+      context.replay(shape);
+    }
     rootSqlNode.apply(context);
-    SqlSourceBuilder sqlSourceParser = new SqlSourceBuilder(configuration);
-    Class<?> parameterType = parameterObject == null ? Object.class : parameterObject.getClass();
-    SqlSource sqlSource = sqlSourceParser.parse(context.getSql(), parameterType, context.getBindings());
-    BoundSql boundSql = sqlSource.getBoundSql(parameterObject);
+    ParsedSqlKey key = new ParsedSqlKey(context.getSql(), parameterType);
+    MetaObject metaBindings = configuration.newMetaObject(context.getBindings());
+    ParsedSql parsedSql = parsedSqlCache.get(key);
+    BoundSql boundSql;
+    if (parsedSql != null && parsedSql.matches(metaBindings)) {
+      boundSql = parsedSql.sqlSource.getBoundSql(parameterObject);
+    } else {
+      SqlSourceBuilder sqlSourceParser = new SqlSourceBuilder(configuration);
+      SqlSource sqlSource = sqlSourceParser.parse(key.sql, parameterType, context.getBindings());
+      boundSql = sqlSource.getBoundSql(parameterObject);
+      parsedSql = new ParsedSql(sqlSource, boundSql.getParameterMappings(), metaBindings);
+      parsedSqlCache.put(key, parsedSql);
+    }
+    if (shape != null) {
+      shapeCache.put(shape, parsedSql);
+    }
     context.getBindings().forEach(boundSql::setAdditionalParameter);
     return boundSql;
   }
 
+  private static final class ParsedSqlKey {
+    private final String sql;
+    private final Class<?> parameterType;
+    private final int hashCode;
+
+    ParsedSqlKey(String sql, Class<?> parameterType) {
+      this.sql = sql;
+      this.parameterType = parameterType;
+      this.hashCode = 31 * sql.hashCode() + parameterType.hashCode();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof ParsedSqlKey)) {
+        return false;
+      }
+      ParsedSqlKey other = (ParsedSqlKey) o;
+      return hashCode == other.hashCode && parameterType == other.parameterType && sql.equals(other.sql);
+    }
+
+    @Override
+    public int hashCode() {
+      return hashCode;
+    }
+  }
+
+  /**
+   * The SQL text with {@code ?} placeholders and the parameter mappings built from a generated SQL text.
+   * <p>
+   * The type of a parameter that is bound in the dynamic context, e.g. a foreach item, is taken from its value, so the
+   * types of the bindings the mappings were built with are kept to tell whether the entry fits another execution.
+   */
+  private static final class ParsedSql {
+    private final SqlSource sqlSource;
+    private final String[] properties;
+    private final Class<?>[] bindingTypes;
+
+    ParsedSql(SqlSource sqlSource, List<ParameterMapping> parameterMappings, MetaObject metaBindings) {
+      this.sqlSource = sqlSource;
+      this.properties = new String[parameterMappings.size()];
+      this.bindingTypes = new Class<?>[properties.length];
+      for (int i = 0; i < properties.length; i++) {
+        properties[i] = parameterMappings.get(i).getProperty();
+        bindingTypes[i] = bindingType(metaBindings, properties[i]);
+      }
+    }
+
+    boolean matches(MetaObject metaBindings) {
+      for (int i = 0; i < properties.length; i++) {
+        if (!Objects.equals(bindingTypes[i], bindingType(metaBindings, properties[i]))) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    private static Class<?> bindingType(MetaObject metaBindings, String property) {
+      return property != null && metaBindings.hasGetter(property) ? metaBindings.getGetterType(property) : null;
+    }
+  }
+
 }
@@ -1,5 +1,5 @@
 /*
- *    Copyright 2009-2023 the original author or authors.
+ *    Copyright 2009-2026 the original author or authors.
  *
  *    Licensed under the Apache License, Version 2.0 (the "License");
  *    you may not use this file except in compliance with the License.
@@ -29,7 +29,24 @@ import org.apache.ibatis.builder.BuilderException;
 public class ExpressionEvaluator {
 
   public boolean evaluateBoolean(String expression, Object parameterObject) {
-    Object value = OgnlCache.getValue(expression, parameterObject);
+    return toBoolean(OgnlCache.getValue(expression, parameterObject));
+  }
+
+  /**
+   * Evaluates a test expression with its compiled form, if there is one, and with OGNL otherwise.
+   *
+   * @since 3.5.18
+   */
+  boolean evaluateBoolean(CompiledExpression compiledExpression, String expression, Object parameterObject) {
+    Object value = compiledExpression == null ? CompiledExpression.UNRESOLVED
+        : compiledExpression.getValue(parameterObject);
+    if (value == CompiledExpression.UNRESOLVED) {
+      value = OgnlCache.getValue(expression, parameterObject);
+    }
+    return toBoolean(value);
+  }
+
+  private boolean toBoolean(Object value) {
     if (value instanceof Boolean) {
       return (Boolean) value;
     }
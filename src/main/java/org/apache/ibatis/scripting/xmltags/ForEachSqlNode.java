@@ -1,5 +1,5 @@
 /*
- *    Copyright 2009-2023 the original author or authors.
+ *    Copyright 2009-2026 the original author or authors.
  *
  *    Licensed under the Apache License, Version 2.0 (the "License");
  *    you may not use this file except in compliance with the License.
@@ -30,6 +30,7 @@ public class ForEachSqlNode implements SqlNode {
   private final ExpressionEvaluator evaluator;
   private final String collectionExpression;
   private final Boolean nullable;
+  private final boolean padding;
   private final SqlNode contents;
   private final String open;
   private final String close;
@@ -53,9 +54,25 @@ public class ForEachSqlNode implements SqlNode {
    */
   public ForEachSqlNode(Configuration configuration, SqlNode contents, String collectionExpression, Boolean nullable,
       String index, String item, String open, String close, String separator) {
+    this(configuration, contents, collectionExpression, nullable, false, index, item, open, close, separator);
+  }
+
+  /**
+   * Creates a foreach node that can pad its iterations.
+   * <p>
+   * With {@code padding} enabled the contents are applied for the last element again until the number of iterations
+   * is a power of two, so e.g. IN lists of 5 to 8 ids all produce the SQL of 8 placeholders. This bounds the number
+   * of distinct statements a statement generates, which keeps them in statement and plan caches. Only enable it where
+   * repeating an element does not change the result, like IN lists.
+   *
+   * @since 3.5.18
+   */
+  public ForEachSqlNode(Configuration configuration, SqlNode contents, String collectionExpression, Boolean nullable,
+      boolean padding, String index, String item, String open, String close, String separator) {
     this.evaluator = new ExpressionEvaluator();
     this.collectionExpression = collectionExpression;
     this.nullable = nullable;
+    this.padding = padding;
     this.contents = contents;
     this.open = open;
     this.close = close;
@@ -67,6 +84,11 @@ public class ForEachSqlNode implements SqlNode {
 
   @Override
   public boolean apply(DynamicContext context) {
+    final SqlShape shape = context.getReplayedShape();
+    if (shape != null) {
+      applyReplayed(context, shape);
+      return true;
+    }
     Map<String, Object> bindings = context.getBindings();
     final Iterable<?> iterable = evaluator.evaluateIterable(collectionExpression, bindings,
         Optional.ofNullable(nullable).orElseGet(configuration::isNullableOnForEach));
@@ -76,37 +98,123 @@ public class ForEachSqlNode implements SqlNode {
     boolean first = true;
     applyOpen(context);
     int i = 0;
+    Object lastIndex = null;
+    Object lastItem = null;
     for (Object o : iterable) {
-      DynamicContext oldContext = context;
-      if (first || separator == null) {
-        context = new PrefixedContext(context, "");
-      } else {
-        context = new PrefixedContext(context, separator);
-      }
-      int uniqueNumber = context.getUniqueNumber();
       // Issue #709
       if (o instanceof Map.Entry) {
         @SuppressWarnings("unchecked")
         Map.Entry<Object, Object> mapEntry = (Map.Entry<Object, Object>) o;
-        applyIndex(context, mapEntry.getKey(), uniqueNumber);
-        applyItem(context, mapEntry.getValue(), uniqueNumber);
+        lastIndex = mapEntry.getKey();
+        lastItem = mapEntry.getValue();
       } else {
-        applyIndex(context, i, uniqueNumber);
-        applyItem(context, o, uniqueNumber);
-      }
-      contents.apply(new FilteredDynamicContext(configuration, context, index, item, uniqueNumber));
-      if (first) {
-        first = !((PrefixedContext) context).isPrefixApplied();
+        lastIndex = i;
+        lastItem = o;
       }
-      context = oldContext;
+      first = applyIteration(context, lastIndex, lastItem, first);
       i++;
     }
+    if (padding) {
+      for (int size = paddedSize(i); i < size; i++) {
+        first = applyIteration(context, lastIndex, lastItem, first);
+      }
+    }
     applyClose(context);
     context.getBindings().remove(item);
     context.getBindings().remove(index);
     return true;
   }
 
+  /**
+   * Binds the items and indexes of the iterations like {@link #apply(DynamicContext)} does, without producing SQL. Each
+   * iteration adds a 1 to the shape, followed by the shape of the contents, and the end of the loop adds a 0.
+   */
+  void applyShape(DynamicContext context, SqlShape shape) {
+    final Iterable<?> iterable = evaluator.evaluateIterable(collectionExpression, context.getBindings(),
+        Optional.ofNullable(nullable).orElseGet(configuration::isNullableOnForEach));
+    if (iterable == null || !iterable.iterator().hasNext()) {
+      shape.add(0);
+      return;
+    }
+    int i = 0;
+    Object lastIndex = null;
+    Object lastItem = null;
+    for (Object o : iterable) {
+      if (o instanceof Map.Entry) {
+        @SuppressWarnings("unchecked")
+        Map.Entry<Object, Object> mapEntry = (Map.Entry<Object, Object>) o;
+        lastIndex = mapEntry.getKey();
+        lastItem = mapEntry.getValue();
+      } else {
+        lastIndex = i;
+        lastItem = o;
+      }
+      applyShapeIteration(context, shape, lastIndex, lastItem);
+      i++;
+    }
+    if (padding) {
+      for (int size = paddedSize(i); i < size; i++) {
+        applyShapeIteration(context, shape, lastIndex, lastItem);
+      }
+    }
+    shape.add(0);
+    context.getBindings().remove(item);
+    context.getBindings().remove(index);
+  }
+
+  /**
+   * Produces the SQL of the iterations recorded by {@link #applyShape(DynamicContext, SqlShape)}, whose items and indexes
+   * are bound already.
+   */
+  private void applyReplayed(DynamicContext context, SqlShape shape) {
+    if (shape.next() == 0) {
+      return;
+    }
+    boolean first = true;
+    applyOpen(context);
+    do {
+      first = applyIteration(context, first);
+    } while (shape.next() == 1);
+    applyClose(context);
+  }
+
+  private void applyShapeIteration(DynamicContext context, SqlShape shape, Object indexValue, Object itemValue) {
+    shape.add(1);
+    int uniqueNumber = context.getUniqueNumber();
+    applyIndex(context, indexValue, uniqueNumber);
+    applyItem(context, itemValue, uniqueNumber);
+    shape.apply(contents, context);
+  }
+
+  SqlNode getContents() {
+    return contents;
+  }
+
+  private boolean applyIteration(DynamicContext context, Object indexValue, Object itemValue, boolean first) {
+    if (first || separator == null) {
+      context = new PrefixedContext(context, "");
+    } else {
+      context = new PrefixedContext(context, separator);
+    }
+    int uniqueNumber = context.getUniqueNumber();
+    applyIndex(context, indexValue, uniqueNumber);
+    applyItem(context, itemValue, uniqueNumber);
+    contents.apply(new FilteredDynamicContext(configuration, context, index, item, uniqueNumber));
+    return first && !((PrefixedContext) context).isPrefixApplied();
+  }
+
+  private boolean applyIteration(DynamicContext context, boolean first) {
+    final PrefixedContext prefixedContext = new PrefixedContext(context, first || separator == null ? "" : separator);
+    contents.apply(new FilteredDynamicContext(configuration, prefixedContext, index, item,
+        prefixedContext.getUniqueNumber()));
+    return first && !prefixedContext.isPrefixApplied();
+  }
+
+  private static int paddedSize(int size) {
+    int highestOneBit = Integer.highestOneBit(size);
+    return highestOneBit == size ? size : highestOneBit << 1;
+  }
+
   private void applyIndex(DynamicContext context, Object o, int i) {
     if (index != null) {
       context.bind(index, o);
@@ -185,6 +293,11 @@ public class ForEachSqlNode implements SqlNode {
       return delegate.getUniqueNumber();
     }
 
+    @Override
+    SqlShape getReplayedShape() {
+      return delegate.getReplayedShape();
+    }
+
   }
 
   private class PrefixedContext extends DynamicContext {
@@ -231,6 +344,11 @@ public class ForEachSqlNode implements SqlNode {
     public int getUniqueNumber() {
       return delegate.getUniqueNumber();
     }
+
+    @Override
+    SqlShape getReplayedShape() {
+      return delegate.getReplayedShape();
+    }
   }
 
 }
@@ -1,5 +1,5 @@
 /*
- *    Copyright 2009-2022 the original author or authors.
+ *    Copyright 2009-2026 the original author or authors.
  *
  *    Licensed under the Apache License, Version 2.0 (the "License");
  *    you may not use this file except in compliance with the License.
@@ -21,21 +21,32 @@ package org.apache.ibatis.scripting.xmltags;
 public class IfSqlNode implements SqlNode {
   private final ExpressionEvaluator evaluator;
   private final String test;
+  private final CompiledExpression compiledTest;
   private final SqlNode contents;
 
   public IfSqlNode(SqlNode contents, String test) {
     this.test = test;
+    this.compiledTest = CompiledExpression.compile(test);
     this.contents = contents;
     this.evaluator = new ExpressionEvaluator();
   }
 
   @Override
   public boolean apply(DynamicContext context) {
-    if (evaluator.evaluateBoolean(test, context.getBindings())) {
+    final SqlShape shape = context.getReplayedShape();
+    if (shape != null ? shape.next() == 1 : evaluateTest(context)) {
       contents.apply(context);
       return true;
     }
     return false;
   }
 
+  boolean evaluateTest(DynamicContext context) {
+    return evaluator.evaluateBoolean(compiledTest, test, context.getBindings());
+  }
+
+  SqlNode getContents() {
+    return contents;
+  }
+
 }
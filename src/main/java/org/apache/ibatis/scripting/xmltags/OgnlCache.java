@@ -1,5 +1,5 @@
 /*
- *    Copyright 2009-2023 the original author or authors.
+ *    Copyright 2009-2026 the original author or authors.
  *
  *    Licensed under the Apache License, Version 2.0 (the "License");
  *    you may not use this file except in compliance with the License.
@@ -42,14 +42,66 @@ public final class OgnlCache {
   }
 
   public static Object getValue(String expression, Object root) {
+    return getValue(null, expression, root);
+  }
+
+  /**
+   * Parses an expression ahead of its evaluation.
+   *
+   * @param expression
+   *          the expression
+   *
+   * @return the parsed expression, or {@code null} if it is not valid, so that the error is reported when the
+   *         expression is evaluated
+   */
+  static Object parse(String expression) {
     try {
+      return parseExpression(expression);
+    } catch (OgnlException e) {
+      return null;
+    }
+  }
+
+  /**
+   * Evaluates an expression that may already have been parsed by {@link #parse(String)}.
+   */
+  static Object getValue(Object tree, String expression, Object root) {
+    try {
+      Object node = tree == null ? parseExpression(expression) : tree;
+      if (root instanceof DynamicContext.ContextMap) {
+        return getValue(node, (DynamicContext.ContextMap) root);
+      }
       OgnlContext context = Ognl.createDefaultContext(root, MEMBER_ACCESS, CLASS_RESOLVER, null);
-      return Ognl.getValue(parseExpression(expression), context, root);
+      return Ognl.getValue(node, context, root);
     } catch (OgnlException e) {
       throw new BuilderException("Error evaluating expression '" + expression + "'. Cause: " + e, e);
     }
   }
 
+  /**
+   * Evaluates an expression against the bindings of a dynamic context with the OGNL context kept by the bindings, so
+   * the expressions of one statement execution share a single context. The context is cleared after each use, which
+   * leaves it in the state of a new one.
+   */
+  private static Object getValue(Object node, DynamicContext.ContextMap bindings) throws OgnlException {
+    // a nested evaluation creates its own context
+    OgnlContext context = bindings.ognlContext;
+    bindings.ognlContext = null;
+    try {
+      if (context == null) {
+        context = Ognl.createDefaultContext(bindings, MEMBER_ACCESS, CLASS_RESOLVER, null);
+      } else {
+        context.setRoot(bindings);
+      }
+      return Ognl.getValue(node, context, bindings);
+    } finally {
+      if (context != null) {
+        context.clear();
+        bindings.ognlContext = context;
+      }
+    }
+  }
+
   private static Object parseExpression(String expression) throws OgnlException {
     Object node = expressionCache.get(expression);
     if (node == null) {
@@ -0,0 +1,161 @@
+/*
+ *    Copyright 2009-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.apache.ibatis.scripting.xmltags;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The path a dynamic SQL node tree takes for a parameter: the outcome of each if, the branch of each choose and the
+ * iterations of each foreach, in the order the nodes are applied.
+ * <p>
+ * The SQL text of a tree made only of the built-in nodes, without {@code ${}} substitutions, depends on nothing else,
+ * so {@link DynamicSqlSource} can reuse the SQL and parameter mappings generated for a shape. Evaluating the shape
+ * binds the same values as applying the tree, but does not build any SQL text. The SQL of a shape that was not seen
+ * before is generated by replaying it, see {@link DynamicContext#replay(SqlShape)}, so no expression is evaluated twice.
+ */
+final class SqlShape {
+
+  private final Class<?> parameterType;
+  private int[] values = new int[16];
+  private int size;
+  private int position;
+
+  private SqlShape(Class<?> parameterType) {
+    this.parameterType = parameterType;
+  }
+
+  /**
+   * Returns whether the SQL text of a node tree is determined by its shape.
+   */
+  static boolean isSupported(SqlNode node) {
+    final Class<?> type = node.getClass();
+    if (type == StaticTextSqlNode.class || type == VarDeclSqlNode.class) {
+      return true;
+    }
+    if (type == TextSqlNode.class) {
+      return !((TextSqlNode) node).isDynamic();
+    }
+    if (type == MixedSqlNode.class) {
+      return ((MixedSqlNode) node).getContents().stream().allMatch(SqlShape::isSupported);
+    }
+    if (type == IfSqlNode.class) {
+      return isSupported(((IfSqlNode) node).getContents());
+    }
+    if (type == ChooseSqlNode.class) {
+      final ChooseSqlNode choose = (ChooseSqlNode) node;
+      return choose.getIfSqlNodes().stream().allMatch(when -> when.getClass() == IfSqlNode.class && isSupported(when))
+          && (choose.getDefaultSqlNode() == null || isSupported(choose.getDefaultSqlNode()));
+    }
+    if (type == TrimSqlNode.class || type == WhereSqlNode.class || type == SetSqlNode.class) {
+      return isSupported(((TrimSqlNode) node).getContents());
+    }
+    if (type == ForEachSqlNode.class) {
+      return isSupported(((ForEachSqlNode) node).getContents());
+    }
+    return false;
+  }
+
+  /**
+   * Evaluates the shape of a supported node tree, binding its variables and foreach items to the context.
+   */
+  static SqlShape evaluate(SqlNode node, DynamicContext context, Class<?> parameterType) {
+    final SqlShape shape = new SqlShape(parameterType);
+    shape.apply(node, context);
+    return shape;
+  }
+
+  void apply(SqlNode node, DynamicContext context) {
+    if (node instanceof MixedSqlNode) {
+      for (SqlNode child : ((MixedSqlNode) node).getContents()) {
+        apply(child, context);
+      }
+    } else if (node instanceof IfSqlNode) {
+      applyIf((IfSqlNode) node, context);
+    } else if (node instanceof ChooseSqlNode) {
+      applyChoose((ChooseSqlNode) node, context);
+    } else if (node instanceof TrimSqlNode) {
+      apply(((TrimSqlNode) node).getContents(), context);
+    } else if (node instanceof ForEachSqlNode) {
+      ((ForEachSqlNode) node).applyShape(context, this);
+    } else if (node instanceof VarDeclSqlNode) {
+      node.apply(context);
+    }
+  }
+
+  private boolean applyIf(IfSqlNode node, DynamicContext context) {
+    if (node.evaluateTest(context)) {
+      add(1);
+      apply(node.getContents(), context);
+      return true;
+    }
+    add(0);
+    return false;
+  }
+
+  private void applyChoose(ChooseSqlNode node, DynamicContext context) {
+    final List<SqlNode> ifSqlNodes = node.getIfSqlNodes();
+    for (SqlNode ifSqlNode : ifSqlNodes) {
+      if (applyIf((IfSqlNode) ifSqlNode, context)) {
+        return;
+      }
+    }
+    if (node.getDefaultSqlNode() != null) {
+      apply(node.getDefaultSqlNode(), context);
+    }
+  }
+
+  void rewind() {
+    position = 0;
+  }
+
+  /**
+   * Gets the next recorded value while the shape is replayed.
+   */
+  int next() {
+    return values[position++];
+  }
+
+  void add(int value) {
+    if (size == values.length) {
+      values = Arrays.copyOf(values, size << 1);
+    }
+    values[size++] = value;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof SqlShape)) {
+      return false;
+    }
+    SqlShape other = (SqlShape) o;
+    return parameterType == other.parameterType
+        && Arrays.equals(values, 0, size, other.values, 0, other.size);
+  }
+
+  @Override
+  public int hashCode() {
+    int result = parameterType.hashCode();
+    for (int i = 0; i < size; i++) {
+      result = 31 * result + values[i];
+    }
+    return result;
+  }
+
+}
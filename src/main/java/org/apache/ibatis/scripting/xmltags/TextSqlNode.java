@@ -1,5 +1,5 @@
 /*
- *    Copyright 2009-2023 the original author or authors.
+ *    Copyright 2009-2026 the original author or authors.
  *
  *    Licensed under the Apache License, Version 2.0 (the "License");
  *    you may not use this file except in compliance with the License.
@@ -15,10 +15,10 @@
  */
 package org.apache.ibatis.scripting.xmltags;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.regex.Pattern;
 
-import org.apache.ibatis.parsing.GenericTokenParser;
-import org.apache.ibatis.parsing.TokenHandler;
 import org.apache.ibatis.scripting.ScriptingException;
 import org.apache.ibatis.type.SimpleTypeRegistry;
 
@@ -26,83 +26,120 @@ import org.apache.ibatis.type.SimpleTypeRegistry;
  * @author Clinton Begin
  */
 public class TextSqlNode implements SqlNode {
-  private final String text;
+  private static final String OPEN_TOKEN = "${";
+  private static final String CLOSE_TOKEN = "}";
+
   private final Pattern injectionFilter;
+  // the text split into literal text and ${} expressions, with the rules of GenericTokenParser
+  private final List<Segment> segments;
+  private final boolean dynamic;
 
   public TextSqlNode(String text) {
     this(text, null);
   }
 
   public TextSqlNode(String text, Pattern injectionFilter) {
-    this.text = text;
     this.injectionFilter = injectionFilter;
+    this.segments = split(text);
+    this.dynamic = segments.stream().anyMatch(segment -> segment.expression != null);
   }
 
   public boolean isDynamic() {
-    DynamicCheckerTokenParser checker = new DynamicCheckerTokenParser();
-    GenericTokenParser parser = createParser(checker);
-    parser.parse(text);
-    return checker.isDynamic();
+    return dynamic;
   }
 
   @Override
   public boolean apply(DynamicContext context) {
-    GenericTokenParser parser = createParser(new BindingTokenParser(context, injectionFilter));
-    context.appendSql(parser.parse(text));
+    if (segments.size() == 1 && segments.get(0).expression == null) {
+      context.appendSql(segments.get(0).text);
+      return true;
+    }
+    StringBuilder sql = new StringBuilder();
+    for (Segment segment : segments) {
+      sql.append(segment.expression == null ? segment.text : bind(context, segment));
+    }
+    context.appendSql(sql.toString());
     return true;
   }
 
-  private GenericTokenParser createParser(TokenHandler handler) {
-    return new GenericTokenParser("${", "}", handler);
+  private String bind(DynamicContext context, Segment segment) {
+    Object parameter = context.getBindings().get("_parameter");
+    if (parameter == null) {
+      context.getBindings().put("value", null);
+    } else if (SimpleTypeRegistry.isSimpleType(parameter.getClass())) {
+      context.getBindings().put("value", parameter);
+    }
+    Object value = OgnlCache.getValue(segment.tree, segment.expression, context.getBindings());
+    String srtValue = value == null ? "" : String.valueOf(value); // issue #274 return "" instead of "null"
+    checkInjection(srtValue);
+    return srtValue;
   }
 
-  private static class BindingTokenParser implements TokenHandler {
-
-    private final DynamicContext context;
-    private final Pattern injectionFilter;
-
-    public BindingTokenParser(DynamicContext context, Pattern injectionFilter) {
-      this.context = context;
-      this.injectionFilter = injectionFilter;
+  private void checkInjection(String value) {
+    if (injectionFilter != null && !injectionFilter.matcher(value).matches()) {
+      throw new ScriptingException("Invalid input. Please conform to regex" + injectionFilter.pattern());
     }
+  }
 
-    @Override
-    public String handleToken(String content) {
-      Object parameter = context.getBindings().get("_parameter");
-      if (parameter == null) {
-        context.getBindings().put("value", null);
-      } else if (SimpleTypeRegistry.isSimpleType(parameter.getClass())) {
-        context.getBindings().put("value", parameter);
-      }
-      Object value = OgnlCache.getValue(content, context.getBindings());
-      String srtValue = value == null ? "" : String.valueOf(value); // issue #274 return "" instead of "null"
-      checkInjection(srtValue);
-      return srtValue;
+  private static List<Segment> split(String text) {
+    List<Segment> segments = new ArrayList<>();
+    if (text == null || text.isEmpty()) {
+      return segments;
     }
-
-    private void checkInjection(String value) {
-      if (injectionFilter != null && !injectionFilter.matcher(value).matches()) {
-        throw new ScriptingException("Invalid input. Please conform to regex" + injectionFilter.pattern());
+    StringBuilder literal = new StringBuilder();
+    int offset = 0;
+    int start = text.indexOf(OPEN_TOKEN);
+    while (start > -1) {
+      if (start > 0 && text.charAt(start - 1) == '\\') {
+        // this open token is escaped. remove the backslash and continue.
+        literal.append(text, offset, start - 1).append(OPEN_TOKEN);
+        offset = start + OPEN_TOKEN.length();
+      } else {
+        literal.append(text, offset, start);
+        StringBuilder expression = new StringBuilder();
+        int from = start + OPEN_TOKEN.length();
+        int end = text.indexOf(CLOSE_TOKEN, from);
+        while (end > -1) {
+          if (end <= from || text.charAt(end - 1) != '\\') {
+            expression.append(text, from, end);
+            break;
+          }
+          // this close token is escaped. remove the backslash and continue.
+          expression.append(text, from, end - 1).append(CLOSE_TOKEN);
+          from = end + CLOSE_TOKEN.length();
+          end = text.indexOf(CLOSE_TOKEN, from);
+        }
+        if (end == -1) {
+          // close token was not found.
+          literal.append(text, start, text.length());
+          offset = text.length();
+        } else {
+          if (literal.length() > 0) {
+            segments.add(new Segment(literal.toString(), null));
+            literal.setLength(0);
+          }
+          segments.add(new Segment(null, expression.toString()));
+          offset = end + CLOSE_TOKEN.length();
+        }
       }
+      start = text.indexOf(OPEN_TOKEN, offset);
     }
-  }
-
-  private static class DynamicCheckerTokenParser implements TokenHandler {
-
-    private boolean isDynamic;
-
-    public DynamicCheckerTokenParser() {
-      // Prevent Synthetic Access
+    literal.append(text, offset, text.length());
+    if (literal.length() > 0) {
+      segments.add(new Segment(literal.toString(), null));
     }
+    return segments;
+  }
 
-    public boolean isDynamic() {
-      return isDynamic;
-    }
+  private static class Segment {
+    private final String text;
+    private final String expression;
+    private final Object tree;
 
-    @Override
-    public String handleToken(String content) {
-      this.isDynamic = true;
-      return null;
+    Segment(String text, String expression) {
+      this.text = text;
+      this.expression = expression;
+      this.tree = expression == null ? null : OgnlCache.parse(expression);
     }
   }
 
@@ -1,5 +1,5 @@
 /*
- *    Copyright 2009-2022 the original author or authors.
+ *    Copyright 2009-2026 the original author or authors.
  *
  *    Licensed under the Apache License, Version 2.0 (the "License");
  *    you may not use this file except in compliance with the License.
@@ -30,6 +30,10 @@ public class VarDeclSqlNode implements SqlNode {
 
   @Override
   public boolean apply(DynamicContext context) {
+    if (context.getReplayedShape() != null) {
+      // bound while the shape was evaluated
+      return true;
+    }
     final Object value = OgnlCache.getValue(expression, context.getBindings());
     context.bind(name, value);
     return true;
@@ -1,5 +1,5 @@
 /*
- *    Copyright 2009-2023 the original author or authors.
+ *    Copyright 2009-2026 the original author or authors.
  *
  *    Licensed under the Apache License, Version 2.0 (the "License");
  *    you may not use this file except in compliance with the License.
@@ -36,6 +36,8 @@ public class XMLScriptBuilder extends BaseBuilder {
 
   private final XNode context;
   private boolean isDynamic;
+  // how the enclosing context joins the SQL of sibling nodes: with a space, or directly inside a trim
+  private String fragmentSeparator = " ";
   private final Class<?> parameterType;
   private final Map<String, NodeHandler> nodeHandlerMap = new HashMap<>();
 
@@ -97,7 +99,107 @@ public class XMLScriptBuilder extends BaseBuilder {
         isDynamic = true;
       }
     }
-    return new MixedSqlNode(contents);
+    return new MixedSqlNode(foldStaticText(contents));
+  }
+
+  private MixedSqlNode parseTrimmedTags(XNode node) {
+    String separator = fragmentSeparator;
+    fragmentSeparator = "";
+    try {
+      return parseDynamicTags(node);
+    } finally {
+      fragmentSeparator = separator;
+    }
+  }
+
+  /**
+   * Merges adjacent static text into one node, joined the way the enclosing context would join it at runtime. When
+   * whitespaces are shrunk and the text is not subject to trim overrides, runs of whitespace are reduced to their first
+   * character and whitespace-only text is dropped, which leaves the shrunk SQL unchanged.
+   */
+  private List<SqlNode> foldStaticText(List<SqlNode> contents) {
+    final boolean shrink = configuration.isShrinkWhitespacesInSql() && " ".equals(fragmentSeparator);
+    List<SqlNode> folded = new ArrayList<>(contents.size());
+    StringBuilder text = null;
+    for (SqlNode node : contents) {
+      if (!(node instanceof StaticTextSqlNode)) {
+        addStaticText(folded, text);
+        text = null;
+        folded.add(node);
+        continue;
+      }
+      String fragment = ((StaticTextSqlNode) node).getText();
+      if (shrink) {
+        fragment = shrinkWhitespaces(fragment);
+        if (fragment.length() <= 1 && isWhitespace(fragment)) {
+          continue;
+        }
+      }
+      if (text != null && isSelfContained(text)) {
+        text.append(fragmentSeparator).append(fragment);
+      } else {
+        addStaticText(folded, text);
+        text = new StringBuilder(fragment);
+      }
+    }
+    addStaticText(folded, text);
+    return folded;
+  }
+
+  private static void addStaticText(List<SqlNode> contents, StringBuilder text) {
+    if (text != null) {
+      contents.add(new StaticTextSqlNode(text.toString()));
+    }
+  }
+
+  // a #{} placeholder split across fragments must stay split, foreach rewrites each fragment on its own
+  private static boolean isSelfContained(StringBuilder text) {
+    int open = text.lastIndexOf("#{");
+    return (open < 0 || text.indexOf("}", open) >= 0)
+        && (text.length() == 0 || text.charAt(text.length() - 1) != '\\');
+  }
+
+  // the whitespace characters of SqlSourceBuilder.removeExtraWhitespaces
+  private static boolean isWhitespace(CharSequence text) {
+    for (int i = 0; i < text.length(); i++) {
+      if (" \t\n\r\f".indexOf(text.charAt(i)) < 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static String shrinkWhitespaces(String text) {
+    StringBuilder builder = new StringBuilder(text.length());
+    boolean whitespace = false;
+    for (int i = 0; i < text.length(); i++) {
+      char c = text.charAt(i);
+      boolean isWhitespace = " \t\n\r\f".indexOf(c) >= 0;
+      if (!isWhitespace || !whitespace) {
+        builder.append(c);
+      }
+      whitespace = isWhitespace;
+    }
+    return builder.length() == text.length() ? text : builder.toString();
+  }
+
+  /**
+   * Replaces a trim, where or set element with static contents by the text it always produces.
+   */
+  private SqlNode foldTrim(TrimSqlNode trim, MixedSqlNode contents) {
+    for (SqlNode node : contents.getContents()) {
+      if (!(node instanceof StaticTextSqlNode)) {
+        return trim;
+      }
+    }
+    StringBuilder sql = new StringBuilder();
+    trim.apply(new DynamicContext(configuration, null) {
+      @Override
+      public void appendSql(String fragment) {
+        sql.append(fragment);
+      }
+    });
+    return new StaticTextSqlNode(sql.toString());
   }
 
   private interface NodeHandler {
@@ -125,13 +227,13 @@ public class XMLScriptBuilder extends BaseBuilder {
 
     @Override
     public void handleNode(XNode nodeToHandle, List<SqlNode> targetContents) {
-      MixedSqlNode mixedSqlNode = parseDynamicTags(nodeToHandle);
+      MixedSqlNode mixedSqlNode = parseTrimmedTags(nodeToHandle);
       String prefix = nodeToHandle.getStringAttribute("prefix");
       String prefixOverrides = nodeToHandle.getStringAttribute("prefixOverrides");
       String suffix = nodeToHandle.getStringAttribute("suffix");
       String suffixOverrides = nodeToHandle.getStringAttribute("suffixOverrides");
       TrimSqlNode trim = new TrimSqlNode(configuration, mixedSqlNode, prefix, prefixOverrides, suffix, suffixOverrides);
-      targetContents.add(trim);
+      targetContents.add(foldTrim(trim, mixedSqlNode));
     }
   }
 
@@ -142,9 +244,9 @@ public class XMLScriptBuilder extends BaseBuilder {
 
     @Override
     public void handleNode(XNode nodeToHandle, List<SqlNode> targetContents) {
-      MixedSqlNode mixedSqlNode = parseDynamicTags(nodeToHandle);
+      MixedSqlNode mixedSqlNode = parseTrimmedTags(nodeToHandle);
       WhereSqlNode where = new WhereSqlNode(configuration, mixedSqlNode);
-      targetContents.add(where);
+      targetContents.add(foldTrim(where, mixedSqlNode));
     }
   }
 
@@ -155,9 +257,9 @@ public class XMLScriptBuilder extends BaseBuilder {
 
     @Override
     public void handleNode(XNode nodeToHandle, List<SqlNode> targetContents) {
-      MixedSqlNode mixedSqlNode = parseDynamicTags(nodeToHandle);
+      MixedSqlNode mixedSqlNode = parseTrimmedTags(nodeToHandle);
       SetSqlNode set = new SetSqlNode(configuration, mixedSqlNode);
-      targetContents.add(set);
+      targetContents.add(foldTrim(set, mixedSqlNode));
     }
   }
 
@@ -171,13 +273,14 @@ public class XMLScriptBuilder extends BaseBuilder {
       MixedSqlNode mixedSqlNode = parseDynamicTags(nodeToHandle);
       String collection = nodeToHandle.getStringAttribute("collection");
       Boolean nullable = nodeToHandle.getBooleanAttribute("nullable");
+      boolean padding = nodeToHandle.getBooleanAttribute("padding", false);
       String item = nodeToHandle.getStringAttribute("item");
       String index = nodeToHandle.getStringAttribute("index");
       String open = nodeToHandle.getStringAttribute("open");
       String close = nodeToHandle.getStringAttribute("close");
       String separator = nodeToHandle.getStringAttribute("separator");
-      ForEachSqlNode forEachSqlNode = new ForEachSqlNode(configuration, mixedSqlNode, collection, nullable, index, item,
-          open, close, separator);
+      ForEachSqlNode forEachSqlNode = new ForEachSqlNode(configuration, mixedSqlNode, collection, nullable, padding,
+          index, item, open, close, separator);
       targetContents.add(forEachSqlNode);
     }
   }
@@ -0,0 +1,247 @@
+/*
+ *    Copyright 2009-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.apache.ibatis.session;
+
+import java.io.Closeable;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import org.apache.ibatis.executor.BatchResult;
+
+/**
+ * An asynchronous facade of a {@link SqlSession}.
+ * <p>
+ * Each call is run on an {@link java.util.concurrent.Executor}, by default on a virtual thread when the Java runtime
+ * supports them, and returns a future of its result. The calls of a session are run one after the other in the order
+ * they were made, all on the same underlying session, so statements, commits and rollbacks are applied to the same
+ * connection and transaction as with a blocking session. A future completes exceptionally with the exception the
+ * blocking call would have thrown; the following calls are run anyway.
+ * <p>
+ * Mappers of an asynchronous session return the result of methods declared with a {@link CompletableFuture}, e.g.
+ * {@code CompletableFuture<List<User>>}, or a {@link java.util.concurrent.CompletionStage} return type as a future.
+ * Other methods are run in turn as well, but block until their result is available.
+ *
+ * @since 3.5.18
+ */
+public interface AsyncSqlSession extends Closeable {
+
+  /**
+   * Retrieve a single row mapped from the statement key.
+   *
+   * @param <T>
+   *          the returned object type
+   * @param statement
+   *          the statement
+   *
+   * @return a future of the mapped object
+   */
+  <T> CompletableFuture<T> selectOneAsync(String statement);
+
+  /**
+   * Retrieve a single row mapped from the statement key and parameter.
+   *
+   * @param <T>
+   *          the returned object type
+   * @param statement
+   *          Unique identifier matching the statement to use.
+   * @param parameter
+   *          A parameter object to pass to the statement.
+   *
+   * @return a future of the mapped object
+   */
+  <T> CompletableFuture<T> selectOneAsync(String statement, Object parameter);
+
+  /**
+   * Retrieve a list of mapped objects from the statement key.
+   *
+   * @param <E>
+   *          the returned list element type
+   * @param statement
+   *          Unique identifier matching the statement to use.
+   *
+   * @return a future of the list of mapped objects
+   */
+  <E> CompletableFuture<List<E>> selectListAsync(String statement);
+
+  /**
+   * Retrieve a list of mapped objects from the statement key and parameter.
+   *
+   * @param <E>
+   *          the returned list element type
+   * @param statement
+   *          Unique identifier matching the statement to use.
+   * @param parameter
+   *          A parameter object to pass to the statement.
+   *
+   * @return a future of the list of mapped objects
+   */
+  <E> CompletableFuture<List<E>> selectListAsync(String statement, Object parameter);
+
+  /**
+   * Retrieve a list of mapped objects from the statement key and parameter, within the specified row bounds.
+   *
+   * @param <E>
+   *          the returned list element type
+   * @param statement
+   *          Unique identifier matching the statement to use.
+   * @param parameter
+   *          A parameter object to pass to the statement.
+   * @param rowBounds
+   *          Bounds to limit object retrieval
+   *
+   * @return a future of the list of mapped objects
+   */
+  <E> CompletableFuture<List<E>> selectListAsync(String statement, Object parameter, RowBounds rowBounds);
+
+  /**
+   * Retrieve a map of mapped objects from the statement key and parameter, keyed by one of their properties.
+   *
+   * @param <K>
+   *          the returned Map keys type
+   * @param <V>
+   *          the returned Map values type
+   * @param statement
+   *          Unique identifier matching the statement to use.
+   * @param parameter
+   *          A parameter object to pass to the statement.
+   * @param mapKey
+   *          The property to use as key for each value in the list.
+   *
+   * @return a future of the map containing key pair data
+   */
+  <K, V> CompletableFuture<Map<K, V>> selectMapAsync(String statement, Object parameter, String mapKey);
+
+  /**
+   * Retrieve the mapped objects from the statement key and parameter using a {@code ResultHandler}. The handler is
+   * called on the thread the statement is run on.
+   *
+   * @param statement
+   *          Unique identifier matching the statement to use.
+   * @param parameter
+   *          A parameter object to pass to the statement.
+   * @param handler
+   *          ResultHandler that will handle each retrieved row
+   *
+   * @return a future that completes once all rows are handled
+   */
+  CompletableFuture<Void> selectAsync(String statement, Object parameter, ResultHandler<?> handler);
+
+  /**
+   * Execute an insert statement with the given parameter object.
+   *
+   * @param statement
+   *          Unique identifier matching the statement to execute.
+   * @param parameter
+   *          A parameter object to pass to the statement.
+   *
+   * @return a future of the number of rows affected by the insert
+   */
+  CompletableFuture<Integer> insertAsync(String statement, Object parameter);
+
+  /**
+   * Execute an update statement with the given parameter object.
+   *
+   * @param statement
+   *          Unique identifier matching the statement to execute.
+   * @param parameter
+   *          A parameter object to pass to the statement.
+   *
+   * @return a future of the number of rows affected by the update
+   */
+  CompletableFuture<Integer> updateAsync(String statement, Object parameter);
+
+  /**
+   * Execute a delete statement with the given parameter object.
+   *
+   * @param statement
+   *          Unique identifier matching the statement to execute.
+   * @param parameter
+   *          A parameter object to pass to the statement.
+   *
+   * @return a future of the number of rows affected by the delete
+   */
+  CompletableFuture<Integer> deleteAsync(String statement, Object parameter);
+
+  /**
+   * Flushes batch statements and commits database connection. Note that database connection will not be committed if
+   * no updates/deletes/inserts were called.
+   *
+   * @return a future that completes once the session is committed
+   */
+  CompletableFuture<Void> commitAsync();
+
+  /**
+   * Flushes batch statements and commits database connection.
+   *
+   * @param force
+   *          forces connection commit
+   *
+   * @return a future that completes once the session is committed
+   */
+  CompletableFuture<Void> commitAsync(boolean force);
+
+  /**
+   * Discards pending batch statements and rolls database connection back. Note that database connection will not be
+   * rolled back if no updates/deletes/inserts were called.
+   *
+   * @return a future that completes once the session is rolled back
+   */
+  CompletableFuture<Void> rollbackAsync();
+
+  /**
+   * Discards pending batch statements and rolls database connection back.
+   *
+   * @param force
+   *          forces connection rollback
+   *
+   * @return a future that completes once the session is rolled back
+   */
+  CompletableFuture<Void> rollbackAsync(boolean force);
+
+  /**
+   * Flushes batch statements.
+   *
+   * @return a future of the BatchResult list of updated records
+   */
+  CompletableFuture<List<BatchResult>> flushStatementsAsync();
+
+  /**
+   * Retrieves a mapper whose calls are run by this session.
+   *
+   * @param <T>
+   *          the mapper type
+   * @param type
+   *          Mapper interface class
+   *
+   * @return a mapper bound to this async session
+   */
+  <T> T getMapper(Class<T> type);
+
+  /**
+   * Retrieves current configuration.
+   *
+   * @return Configuration
+   */
+  Configuration getConfiguration();
+
+  /**
+   * Closes the session once the calls made so far have completed, and waits for it.
+   */
+  @Override
+  void close();
+
+}
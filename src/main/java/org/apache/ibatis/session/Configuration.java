@@ -1,5 +1,5 @@
 /*
- *    Copyright 2009-2024 the original author or authors.
+ *    Copyright 2009-2026 the original author or authors.
  *
  *    Licensed under the Apache License, Version 2.0 (the "License");
  *    you may not use this file except in compliance with the License.
@@ -54,8 +54,10 @@ import org.apache.ibatis.executor.loader.ProxyFactory;
 import org.apache.ibatis.executor.loader.cglib.CglibProxyFactory;
 import org.apache.ibatis.executor.loader.javassist.JavassistProxyFactory;
 import org.apache.ibatis.executor.parameter.ParameterHandler;
+import org.apache.ibatis.executor.resultset.ColumnSignature;
 import org.apache.ibatis.executor.resultset.DefaultResultSetHandler;
 import org.apache.ibatis.executor.resultset.ResultSetHandler;
+import org.apache.ibatis.executor.resultset.RowMappingPlan;
 import org.apache.ibatis.executor.statement.RoutingStatementHandler;
 import org.apache.ibatis.executor.statement.StatementHandler;
 import org.apache.ibatis.io.VFS;
@@ -96,6 +98,7 @@ import org.apache.ibatis.type.JdbcType;
 import org.apache.ibatis.type.TypeAliasRegistry;
 import org.apache.ibatis.type.TypeHandler;
 import org.apache.ibatis.type.TypeHandlerRegistry;
+import org.apache.ibatis.util.BoundedConcurrentCache;
 
 /**
  * @author Clinton Begin
@@ -117,6 +120,13 @@ public class Configuration {
   protected boolean shrinkWhitespacesInSql;
   protected boolean nullableOnForEach;
   protected boolean argNameBasedConstructorAutoMapping;
+  protected boolean cursorResultOrdered;
+  protected boolean dynamicSqlShapeCacheEnabled;
+  protected boolean batchStatementGrouping;
+  protected Integer batchMaxStatementRows;
+  protected Integer batchMaxRows;
+  protected Integer batchMaxBytes;
+  protected boolean batchReleaseParameterObjects;
 
   protected String logPrefix;
   protected Class<? extends Log> logImpl;
@@ -182,6 +192,20 @@ public class Configuration {
    */
   protected final Map<String, String> cacheRefMap = new HashMap<>();
 
+  /*
+   * Row mapping plans shared by all result set handlers. Plans depend on the auto-mapping settings, so the setters of
+   * those settings clear this cache.
+   */
+  protected final BoundedConcurrentCache<RowMappingPlan.Key, RowMappingPlan> rowMappingPlanCache = new BoundedConcurrentCache<>(
+      4096);
+
+  /*
+   * Result set column signatures keyed by statement and a hash of the SQL, evicting the signatures not used recently.
+   * Column names depend on useColumnLabel, so its setter clears this cache.
+   */
+  protected final BoundedConcurrentCache<ColumnSignature.Key, ColumnSignature> columnSignatureCache = new BoundedConcurrentCache<>(
+      4096);
+
   public Configuration(Environment environment) {
     this();
     this.environment = environment;
@@ -339,6 +363,141 @@ public class Configuration {
 
   public void setArgNameBasedConstructorAutoMapping(boolean argNameBasedConstructorAutoMapping) {
     this.argNameBasedConstructorAutoMapping = argNameBasedConstructorAutoMapping;
+    rowMappingPlanCache.clear();
+  }
+
+  /**
+   * Returns whether cursors map nested result maps as if {@code resultOrdered} were set on every statement.
+   * <p>
+   * Default is {@code false}.
+   *
+   * @return {@code true} if a cursor emits each root object once the next row belongs to another one
+   *
+   * @since 3.5.18
+   */
+  public boolean isCursorResultOrdered() {
+    return cursorResultOrdered;
+  }
+
+  /**
+   * Sets whether cursors map nested result maps as if {@code resultOrdered} were set on every statement. A cursor then
+   * only keeps the root object being mapped, which lets it stream results of any size, but the rows of a root object
+   * must be consecutive.
+   *
+   * @param cursorResultOrdered
+   *          If ordered, set to {@code true}
+   *
+   * @since 3.5.18
+   */
+  public void setCursorResultOrdered(boolean cursorResultOrdered) {
+    this.cursorResultOrdered = cursorResultOrdered;
+  }
+
+  public boolean isDynamicSqlShapeCacheEnabled() {
+    return dynamicSqlShapeCacheEnabled;
+  }
+
+  /**
+   * Sets whether dynamic SQL is generated once per shape, i.e. per combination of the if and choose branches taken and
+   * the foreach iterations. A statement then only evaluates its test and collection expressions and reuses the SQL and
+   * parameter mappings generated for the same shape. The SQL of a shape seen for the first time is generated from the
+   * values bound while evaluating its expressions, so no expression is evaluated twice. Statements using {@code ${}}
+   * substitutions are always generated.
+   *
+   * @param dynamicSqlShapeCacheEnabled
+   *          If enabled, set to {@code true}
+   *
+   * @since 3.5.18
+   */
+  public void setDynamicSqlShapeCacheEnabled(boolean dynamicSqlShapeCacheEnabled) {
+    this.dynamicSqlShapeCacheEnabled = dynamicSqlShapeCacheEnabled;
+  }
+
+  public boolean isBatchStatementGrouping() {
+    return batchStatementGrouping;
+  }
+
+  /**
+   * Sets whether the batch executor adds an update to the batch of any earlier update with the same statement and SQL,
+   * not only to the batch of the previous update. The batches are executed in the order their first update was made,
+   * so updates of different statements may run in another order than they were made.
+   *
+   * @param batchStatementGrouping
+   *          If grouped, set to {@code true}
+   *
+   * @since 3.5.18
+   */
+  public void setBatchStatementGrouping(boolean batchStatementGrouping) {
+    this.batchStatementGrouping = batchStatementGrouping;
+  }
+
+  public Integer getBatchMaxStatementRows() {
+    return batchMaxStatementRows;
+  }
+
+  /**
+   * Sets the number of updates the batch executor adds to the batch of one statement before it executes all batches.
+   * The results of batches executed because a limit was reached are returned by the next flush without their parameter
+   * objects.
+   *
+   * @param batchMaxStatementRows
+   *          the maximum number of updates per statement, or {@code null} for no limit
+   *
+   * @since 3.5.18
+   */
+  public void setBatchMaxStatementRows(Integer batchMaxStatementRows) {
+    this.batchMaxStatementRows = batchMaxStatementRows;
+  }
+
+  public Integer getBatchMaxRows() {
+    return batchMaxRows;
+  }
+
+  /**
+   * Sets the number of updates the batch executor adds to all of its batches before it executes them.
+   *
+   * @param batchMaxRows
+   *          the maximum number of updates, or {@code null} for no limit
+   *
+   * @since 3.5.18
+   */
+  public void setBatchMaxRows(Integer batchMaxRows) {
+    this.batchMaxRows = batchMaxRows;
+  }
+
+  public Integer getBatchMaxBytes() {
+    return batchMaxBytes;
+  }
+
+  /**
+   * Sets the estimated size of the parameter values the batch executor adds to its batches before it executes them.
+   * Character data counts two bytes per character, binary data its length and other values eight bytes.
+   *
+   * @param batchMaxBytes
+   *          the maximum estimated size in bytes, or {@code null} for no limit
+   *
+   * @since 3.5.18
+   */
+  public void setBatchMaxBytes(Integer batchMaxBytes) {
+    this.batchMaxBytes = batchMaxBytes;
+  }
+
+  public boolean isBatchReleaseParameterObjects() {
+    return batchReleaseParameterObjects;
+  }
+
+  /**
+   * Sets whether the batch results drop their parameter objects once the batch is executed and the generated keys are
+   * assigned. Results of batches executed because a batch limit was reached always drop them; this setting also applies
+   * to the batches executed by a flush.
+   *
+   * @param batchReleaseParameterObjects
+   *          If released, set to {@code true}
+   *
+   * @since 3.5.18
+   */
+  public void setBatchReleaseParameterObjects(boolean batchReleaseParameterObjects) {
+    this.batchReleaseParameterObjects = batchReleaseParameterObjects;
   }
 
   public String getDatabaseId() {
@@ -379,6 +538,7 @@ public class Configuration {
 
   public void setMapUnderscoreToCamelCase(boolean mapUnderscoreToCamelCase) {
     this.mapUnderscoreToCamelCase = mapUnderscoreToCamelCase;
+    rowMappingPlanCache.clear();
   }
 
   public void addLoadedResource(String resource) {
@@ -426,6 +586,7 @@ public class Configuration {
    */
   public void setAutoMappingUnknownColumnBehavior(AutoMappingUnknownColumnBehavior autoMappingUnknownColumnBehavior) {
     this.autoMappingUnknownColumnBehavior = autoMappingUnknownColumnBehavior;
+    rowMappingPlanCache.clear();
   }
 
   public boolean isLazyLoadingEnabled() {
@@ -563,6 +724,7 @@ public class Configuration {
 
   public void setUseColumnLabel(boolean useColumnLabel) {
     this.useColumnLabel = useColumnLabel;
+    columnSignatureCache.clear();
   }
 
   public LocalCacheScope getLocalCacheScope() {
@@ -627,6 +789,28 @@ public class Configuration {
     return reflectorFactory;
   }
 
+  /**
+   * Gets the cache of row mapping plans shared by result set handlers.
+   *
+   * @return the row mapping plan cache
+   *
+   * @since 3.5.18
+   */
+  public BoundedConcurrentCache<RowMappingPlan.Key, RowMappingPlan> getRowMappingPlanCache() {
+    return rowMappingPlanCache;
+  }
+
+  /**
+   * Gets the cache of result set column signatures shared by result set handlers.
+   *
+   * @return the column signature cache
+   *
+   * @since 3.5.18
+   */
+  public BoundedConcurrentCache<ColumnSignature.Key, ColumnSignature> getColumnSignatureCache() {
+    return columnSignatureCache;
+  }
+
   public void setReflectorFactory(ReflectorFactory reflectorFactory) {
     this.reflectorFactory = reflectorFactory;
   }
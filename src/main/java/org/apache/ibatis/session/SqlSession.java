@@ -1,5 +1,5 @@
 /*
- *    Copyright 2009-2023 the original author or authors.
+ *    Copyright 2009-2026 the original author or authors.
  *
  *    Licensed under the Apache License, Version 2.0 (the "License");
  *    you may not use this file except in compliance with the License.
@@ -22,6 +22,8 @@ import java.util.Map;
 
 import org.apache.ibatis.cursor.Cursor;
 import org.apache.ibatis.executor.BatchResult;
+import org.apache.ibatis.executor.result.ColumnarResult;
+import org.apache.ibatis.executor.result.ColumnarResultHandler;
 
 /**
  * The primary Java interface for working with MyBatis. Through this interface you can execute commands, get mappers and
@@ -198,6 +200,59 @@ public interface SqlSession extends Closeable {
    */
   <T> Cursor<T> selectCursor(String statement, Object parameter, RowBounds rowBounds);
 
+  /**
+   * Retrieve the rows of the first result set column by column, storing integer and floating point columns in
+   * primitive arrays. Result maps of the statement are not applied.
+   *
+   * @param statement
+   *          Unique identifier matching the statement to use.
+   *
+   * @return the columns read
+   *
+   * @since 3.5.18
+   */
+  default ColumnarResult selectColumns(String statement) {
+    return selectColumns(statement, null);
+  }
+
+  /**
+   * Retrieve the rows of the first result set column by column, storing integer and floating point columns in
+   * primitive arrays. Result maps of the statement are not applied.
+   *
+   * @param statement
+   *          Unique identifier matching the statement to use.
+   * @param parameter
+   *          A parameter object to pass to the statement.
+   *
+   * @return the columns read
+   *
+   * @since 3.5.18
+   */
+  default ColumnarResult selectColumns(String statement, Object parameter) {
+    return selectColumns(statement, parameter, RowBounds.DEFAULT);
+  }
+
+  /**
+   * Retrieve the rows of the first result set column by column, storing integer and floating point columns in
+   * primitive arrays. Result maps of the statement are not applied.
+   *
+   * @param statement
+   *          Unique identifier matching the statement to use.
+   * @param parameter
+   *          A parameter object to pass to the statement.
+   * @param rowBounds
+   *          Bounds to limit the rows read
+   *
+   * @return the columns read
+   *
+   * @since 3.5.18
+   */
+  default ColumnarResult selectColumns(String statement, Object parameter, RowBounds rowBounds) {
+    ColumnarResultHandler handler = new ColumnarResultHandler();
+    select(statement, parameter, rowBounds, handler);
+    return handler.getResult();
+  }
+
   /**
    * Retrieve a single row mapped from the statement key and parameter using a {@code ResultHandler}.
    *
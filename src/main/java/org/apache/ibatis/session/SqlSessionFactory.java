@@ -1,5 +1,5 @@
 /*
- *    Copyright 2009-2022 the original author or authors.
+ *    Copyright 2009-2026 the original author or authors.
  *
  *    Licensed under the Apache License, Version 2.0 (the "License");
  *    you may not use this file except in compliance with the License.
@@ -16,6 +16,9 @@
 package org.apache.ibatis.session;
 
 import java.sql.Connection;
+import java.util.concurrent.Executor;
+
+import org.apache.ibatis.session.defaults.DefaultAsyncSqlSession;
 
 /**
  * Creates an {@link SqlSession} out of a connection or a DataSource
@@ -42,4 +45,29 @@ public interface SqlSessionFactory {
 
   Configuration getConfiguration();
 
+  /**
+   * Opens a session whose statements run on virtual threads, or on daemon threads if the runtime has none.
+   *
+   * @return the asynchronous session
+   *
+   * @since 3.5.18
+   */
+  default AsyncSqlSession openAsyncSession() {
+    return new DefaultAsyncSqlSession(openSession());
+  }
+
+  /**
+   * Opens a session whose statements run on the given executor.
+   *
+   * @param executor
+   *          the executor to run the statements on
+   *
+   * @return the asynchronous session
+   *
+   * @since 3.5.18
+   */
+  default AsyncSqlSession openAsyncSession(Executor executor) {
+    return new DefaultAsyncSqlSession(openSession(), executor);
+  }
+
 }
@@ -1,5 +1,5 @@
 /*
- *    Copyright 2009-2023 the original author or authors.
+ *    Copyright 2009-2026 the original author or authors.
  *
  *    Licensed under the Apache License, Version 2.0 (the "License");
  *    you may not use this file except in compliance with the License.
@@ -27,6 +27,7 @@ import java.util.Properties;
 
 import org.apache.ibatis.cursor.Cursor;
 import org.apache.ibatis.executor.BatchResult;
+import org.apache.ibatis.executor.result.ColumnarResult;
 import org.apache.ibatis.reflection.ExceptionUtil;
 
 /**
@@ -194,6 +195,21 @@ public class SqlSessionManager implements SqlSessionFactory, SqlSession {
     return sqlSessionProxy.selectCursor(statement, parameter, rowBounds);
   }
 
+  @Override
+  public ColumnarResult selectColumns(String statement) {
+    return sqlSessionProxy.selectColumns(statement);
+  }
+
+  @Override
+  public ColumnarResult selectColumns(String statement, Object parameter) {
+    return sqlSessionProxy.selectColumns(statement, parameter);
+  }
+
+  @Override
+  public ColumnarResult selectColumns(String statement, Object parameter, RowBounds rowBounds) {
+    return sqlSessionProxy.selectColumns(statement, parameter, rowBounds);
+  }
+
   @Override
   public <E> List<E> selectList(String statement) {
     return sqlSessionProxy.selectList(statement);
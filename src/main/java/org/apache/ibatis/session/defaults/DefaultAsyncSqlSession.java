@@ -0,0 +1,300 @@
+/*
+ *    Copyright 2009-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.apache.ibatis.session.defaults;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.apache.ibatis.executor.BatchResult;
+import org.apache.ibatis.reflection.ExceptionUtil;
+import org.apache.ibatis.session.AsyncSqlSession;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionException;
+
+/**
+ * The default implementation for {@link AsyncSqlSession}.
+ * <p>
+ * Calls are queued: each one is handed to the executor when the previous one has completed, so the wrapped session is
+ * only used by one thread at a time, and no thread is blocked while a call waits for its turn. Cancelling a future
+ * does not interrupt its call nor let the next one start earlier.
+ *
+ * @since 3.5.18
+ */
+public class DefaultAsyncSqlSession implements AsyncSqlSession {
+
+  private final SqlSession sqlSession;
+  private final Executor executor;
+  // guards the queue only, it is never held while a call is run
+  private final ReentrantLock lock = new ReentrantLock();
+  private CompletableFuture<Void> lastCall = CompletableFuture.completedFuture(null);
+  private boolean closed;
+
+  /**
+   * Creates an async session that runs its calls on virtual threads, or on daemon threads of a shared pool when the
+   * Java runtime does not support virtual threads.
+   *
+   * @param sqlSession
+   *          the session to run the calls on
+   */
+  public DefaultAsyncSqlSession(SqlSession sqlSession) {
+    this(sqlSession, DefaultExecutorHolder.EXECUTOR);
+  }
+
+  public DefaultAsyncSqlSession(SqlSession sqlSession, Executor executor) {
+    this.sqlSession = sqlSession;
+    this.executor = executor;
+  }
+
+  @Override
+  public <T> CompletableFuture<T> selectOneAsync(String statement) {
+    return submit(() -> sqlSession.selectOne(statement));
+  }
+
+  @Override
+  public <T> CompletableFuture<T> selectOneAsync(String statement, Object parameter) {
+    return submit(() -> sqlSession.selectOne(statement, parameter));
+  }
+
+  @Override
+  public <E> CompletableFuture<List<E>> selectListAsync(String statement) {
+    return submit(() -> sqlSession.selectList(statement));
+  }
+
+  @Override
+  public <E> CompletableFuture<List<E>> selectListAsync(String statement, Object parameter) {
+    return submit(() -> sqlSession.selectList(statement, parameter));
+  }
+
+  @Override
+  public <E> CompletableFuture<List<E>> selectListAsync(String statement, Object parameter, RowBounds rowBounds) {
+    return submit(() -> sqlSession.selectList(statement, parameter, rowBounds));
+  }
+
+  @Override
+  public <K, V> CompletableFuture<Map<K, V>> selectMapAsync(String statement, Object parameter, String mapKey) {
+    return submit(() -> sqlSession.selectMap(statement, parameter, mapKey));
+  }
+
+  @Override
+  public CompletableFuture<Void> selectAsync(String statement, Object parameter, ResultHandler<?> handler) {
+    return submit(() -> {
+      sqlSession.select(statement, parameter, handler);
+      return null;
+    });
+  }
+
+  @Override
+  public CompletableFuture<Integer> insertAsync(String statement, Object parameter) {
+    return submit(() -> sqlSession.insert(statement, parameter));
+  }
+
+  @Override
+  public CompletableFuture<Integer> updateAsync(String statement, Object parameter) {
+    return submit(() -> sqlSession.update(statement, parameter));
+  }
+
+  @Override
+  public CompletableFuture<Integer> deleteAsync(String statement, Object parameter) {
+    return submit(() -> sqlSession.delete(statement, parameter));
+  }
+
+  @Override
+  public CompletableFuture<Void> commitAsync() {
+    return commitAsync(false);
+  }
+
+  @Override
+  public CompletableFuture<Void> commitAsync(boolean force) {
+    return submit(() -> {
+      sqlSession.commit(force);
+      return null;
+    });
+  }
+
+  @Override
+  public CompletableFuture<Void> rollbackAsync() {
+    return rollbackAsync(false);
+  }
+
+  @Override
+  public CompletableFuture<Void> rollbackAsync(boolean force) {
+    return submit(() -> {
+      sqlSession.rollback(force);
+      return null;
+    });
+  }
+
+  @Override
+  public CompletableFuture<List<BatchResult>> flushStatementsAsync() {
+    return submit(sqlSession::flushStatements);
+  }
+
+  @SuppressWarnings("unchecked")
+  @Override
+  public <T> T getMapper(Class<T> type) {
+    final T mapper = sqlSession.getMapper(type);
+    return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class[] { type }, new AsyncMapperHandler(mapper));
+  }
+
+  @Override
+  public Configuration getConfiguration() {
+    return sqlSession.getConfiguration();
+  }
+
+  @Override
+  public void close() {
+    CompletableFuture<Void> future;
+    lock.lock();
+    try {
+      if (closed) {
+        return;
+      }
+      future = enqueue(() -> {
+        sqlSession.close();
+        return null;
+      });
+      closed = true;
+    } finally {
+      lock.unlock();
+    }
+    try {
+      future.join();
+    } catch (CompletionException e) {
+      Throwable cause = unwrap(e);
+      throw cause instanceof RuntimeException ? (RuntimeException) cause : e;
+    }
+  }
+
+  private <T> CompletableFuture<T> submit(Callable<T> call) {
+    lock.lock();
+    try {
+      if (closed) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        future.completeExceptionally(new SqlSessionException("The async session is closed."));
+        return future;
+      }
+      return enqueue(call);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private <T> CompletableFuture<T> enqueue(Callable<T> call) {
+    final CompletableFuture<T> result = new CompletableFuture<>();
+    final CompletableFuture<Void> done = new CompletableFuture<>();
+    lastCall.whenComplete((ignored, e) -> {
+      try {
+        executor.execute(() -> run(call, result, done));
+      } catch (RuntimeException rejected) {
+        result.completeExceptionally(rejected);
+        done.complete(null);
+      }
+    });
+    lastCall = done;
+    return result;
+  }
+
+  private static <T> void run(Callable<T> call, CompletableFuture<T> result, CompletableFuture<Void> done) {
+    T value = null;
+    Throwable failure = null;
+    try {
+      value = call.call();
+    } catch (Throwable t) {
+      failure = ExceptionUtil.unwrapThrowable(t);
+      if (failure instanceof CompletionException && failure.getCause() != null) {
+        failure = failure.getCause();
+      }
+    }
+    // release the session before the dependent stages of the caller run on this thread, they may call it again
+    done.complete(null);
+    if (failure == null) {
+      result.complete(value);
+    } else {
+      result.completeExceptionally(failure);
+    }
+  }
+
+  private static Throwable unwrap(CompletionException e) {
+    return e.getCause() == null ? e : e.getCause();
+  }
+
+  private class AsyncMapperHandler implements InvocationHandler {
+
+    private final Object mapper;
+
+    AsyncMapperHandler(Object mapper) {
+      this.mapper = mapper;
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+      if (Object.class.equals(method.getDeclaringClass())) {
+        return method.invoke(this, args);
+      }
+      final boolean returnsFuture = method.getReturnType() != Object.class
+          && method.getReturnType().isAssignableFrom(CompletableFuture.class);
+      final CompletableFuture<Object> future = submit(() -> {
+        Object result = method.invoke(mapper, args);
+        // the mapper of the blocking session returns a completed future
+        return returnsFuture && result instanceof CompletionStage
+            ? ((CompletionStage<?>) result).toCompletableFuture().join() : result;
+      });
+      if (returnsFuture) {
+        return future;
+      }
+      try {
+        return future.join();
+      } catch (CompletionException e) {
+        throw unwrap(e);
+      }
+    }
+  }
+
+  private static final class DefaultExecutorHolder {
+
+    private static final Executor EXECUTOR = createExecutor();
+
+    private static Executor createExecutor() {
+      try {
+        // Java 21+
+        return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+      } catch (ReflectiveOperationException e) {
+        final AtomicInteger threadNumber = new AtomicInteger();
+        return Executors.newCachedThreadPool(runnable -> {
+          Thread thread = new Thread(runnable, "mybatis-async-" + threadNumber.incrementAndGet());
+          thread.setDaemon(true);
+          return thread;
+        });
+      }
+    }
+  }
+
+}
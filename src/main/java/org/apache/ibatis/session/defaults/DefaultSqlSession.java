@@ -1,5 +1,5 @@
 /*
- *    Copyright 2009-2023 the original author or authors.
+ *    Copyright 2009-2026 the original author or authors.
  *
  *    Licensed under the Apache License, Version 2.0 (the "License");
  *    you may not use this file except in compliance with the License.
@@ -27,9 +27,13 @@ import org.apache.ibatis.binding.BindingException;
 import org.apache.ibatis.cursor.Cursor;
 import org.apache.ibatis.exceptions.ExceptionFactory;
 import org.apache.ibatis.exceptions.TooManyResultsException;
+import org.apache.ibatis.executor.BatchExecutor;
 import org.apache.ibatis.executor.BatchResult;
 import org.apache.ibatis.executor.ErrorContext;
 import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.executor.ExecutorException;
+import org.apache.ibatis.executor.result.ColumnarResult;
+import org.apache.ibatis.executor.result.ColumnarResultHandler;
 import org.apache.ibatis.executor.result.DefaultMapResultHandler;
 import org.apache.ibatis.executor.result.DefaultResultContext;
 import org.apache.ibatis.mapping.MappedStatement;
@@ -151,7 +155,19 @@ public class DefaultSqlSession implements SqlSession {
     try {
       MappedStatement ms = configuration.getMappedStatement(statement);
       dirty |= ms.isDirtySelect();
-      return executor.query(ms, wrapCollection(parameter), rowBounds, handler);
+      List<Object> chunks = ParameterChunks.split(ms, wrapCollection(parameter));
+      if (chunks.size() == 1) {
+        return executor.query(ms, chunks.get(0), rowBounds, handler);
+      }
+      if (rowBounds != RowBounds.DEFAULT || handler instanceof ColumnarResultHandler) {
+        throw new ExecutorException("Statement '" + statement
+            + "' is executed in chunks, which cannot be combined with RowBounds or a columnar result.");
+      }
+      List<E> list = new ArrayList<>();
+      for (Object chunk : chunks) {
+        list.addAll(executor.query(ms, chunk, rowBounds, handler));
+      }
+      return list;
     } catch (Exception e) {
       throw ExceptionFactory.wrapException("Error querying database.  Cause: " + e, e);
     } finally {
@@ -194,7 +210,17 @@ public class DefaultSqlSession implements SqlSession {
     try {
       dirty = true;
       MappedStatement ms = configuration.getMappedStatement(statement);
-      return executor.update(ms, wrapCollection(parameter));
+      List<Object> chunks = ParameterChunks.split(ms, wrapCollection(parameter));
+      if (chunks.size() == 1) {
+        return executor.update(ms, chunks.get(0));
+      }
+      int updateCount = 0;
+      for (Object chunk : chunks) {
+        int count = executor.update(ms, chunk);
+        // batched chunks are counted when the statements are flushed
+        updateCount = count == BatchExecutor.BATCH_UPDATE_RETURN_VALUE ? count : updateCount + count;
+      }
+      return updateCount;
     } catch (Exception e) {
       throw ExceptionFactory.wrapException("Error updating database.  Cause: " + e, e);
     } finally {
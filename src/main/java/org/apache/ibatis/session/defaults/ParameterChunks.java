@@ -0,0 +1,124 @@
+/*
+ *    Copyright 2009-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.apache.ibatis.session.defaults;
+
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.ibatis.binding.MapperMethod.ParamMap;
+import org.apache.ibatis.executor.ExecutorException;
+import org.apache.ibatis.mapping.MappedStatement;
+
+/**
+ * Splits the collection parameter of a statement with a chunk size into parameters holding at most that many elements.
+ * <p>
+ * The parameter must be a map, which it is when the collection is passed directly or as a named mapper parameter. Each
+ * chunk is a copy of the map in which every entry holding the collection holds a part of it instead, so the elements
+ * themselves, e.g. the objects receiving generated keys, are shared with the original collection.
+ */
+final class ParameterChunks {
+
+  private ParameterChunks() {
+    // Prevent Instantiation of Static Class
+  }
+
+  /**
+   * Returns the parameters to execute the statement with.
+   *
+   * @param ms
+   *          the statement
+   * @param parameter
+   *          the parameter, with collections already wrapped into a map
+   *
+   * @return the chunked parameters, or a list holding the parameter itself if it does not need to be split
+   */
+  static List<Object> split(MappedStatement ms, Object parameter) {
+    final int chunkSize = ms.getChunkSize();
+    if (chunkSize <= 0) {
+      return Collections.singletonList(parameter);
+    }
+    if (!(parameter instanceof Map)) {
+      if (ms.getChunkParameter() != null) {
+        throw new ExecutorException("Statement '" + ms.getId() + "' is chunked by parameter '"
+            + ms.getChunkParameter() + "', but its parameter is not a map. Pass the collection with @Param.");
+      }
+      return Collections.singletonList(parameter);
+    }
+    @SuppressWarnings("unchecked")
+    final Map<String, Object> map = (Map<String, Object>) parameter;
+    final Object collection = ms.getChunkParameter() == null ? findCollection(ms, map)
+        : map.get(ms.getChunkParameter());
+    final int size = sizeOf(ms, collection);
+    if (size <= chunkSize) {
+      return Collections.singletonList(parameter);
+    }
+    final Object elements = collection instanceof Collection && !(collection instanceof List)
+        ? new ArrayList<>((Collection<?>) collection) : collection;
+    final List<Object> chunks = new ArrayList<>((size + chunkSize - 1) / chunkSize);
+    for (int from = 0; from < size; from += chunkSize) {
+      final Object chunk = part(elements, from, Math.min(from + chunkSize, size));
+      final Map<String, Object> chunkParameter = map instanceof ParamMap ? new ParamMap<>() : new HashMap<>();
+      for (Map.Entry<String, Object> entry : map.entrySet()) {
+        chunkParameter.put(entry.getKey(), entry.getValue() == collection ? chunk : entry.getValue());
+      }
+      chunks.add(chunkParameter);
+    }
+    return chunks;
+  }
+
+  private static Object findCollection(MappedStatement ms, Map<String, Object> map) {
+    Object collection = null;
+    for (Object value : map.values()) {
+      if (value != collection && (value instanceof Collection || value != null && value.getClass().isArray())) {
+        if (collection != null) {
+          throw new ExecutorException("Statement '" + ms.getId()
+              + "' has more than one collection parameter. Specify the one to split with chunkParameter.");
+        }
+        collection = value;
+      }
+    }
+    return collection;
+  }
+
+  private static int sizeOf(MappedStatement ms, Object collection) {
+    if (collection == null) {
+      return 0;
+    }
+    if (collection instanceof Collection) {
+      return ((Collection<?>) collection).size();
+    }
+    if (collection.getClass().isArray()) {
+      return Array.getLength(collection);
+    }
+    throw new ExecutorException("Parameter '" + ms.getChunkParameter() + "' of statement '" + ms.getId()
+        + "' is not a collection or an array and cannot be split into chunks.");
+  }
+
+  private static Object part(Object collection, int from, int to) {
+    if (collection instanceof List) {
+      return ((List<?>) collection).subList(from, to);
+    }
+    final Object array = Array.newInstance(collection.getClass().getComponentType(), to - from);
+    System.arraycopy(collection, from, array, 0, to - from);
+    return array;
+  }
+
+}
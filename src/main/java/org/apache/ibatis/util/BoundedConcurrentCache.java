@@ -0,0 +1,133 @@
+/*
+ *    Copyright 2009-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.apache.ibatis.util;
+
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * A thread safe memo for values that are expensive to compute but cheap to keep, holding at most {@code maxSize}
+ * entries.
+ * <p>
+ * Entries are evicted with a clock policy: reading an entry marks it as referenced, and when the cache grows beyond its
+ * size, a sweep clears the marks and removes unmarked entries until a quarter of the entries are gone. Entries used
+ * between two sweeps survive them, so the working set stays cached while one-off keys (e.g. generated SQL text) are
+ * dropped. Values are computed outside of the map, so concurrent callers may compute the value of a key more than once;
+ * the value stored first is returned to all of them.
+ *
+ * @param <K>
+ *          the key type
+ * @param <V>
+ *          the value type
+ *
+ * @since 3.5.18
+ */
+public class BoundedConcurrentCache<K, V> {
+
+  private final ConcurrentHashMap<K, Entry<V>> map = new ConcurrentHashMap<>();
+  private final ReentrantLock evictionLock = new ReentrantLock();
+  private final int maxSize;
+
+  public BoundedConcurrentCache(int maxSize) {
+    if (maxSize < 0) {
+      throw new IllegalArgumentException("maxSize must not be negative: " + maxSize);
+    }
+    this.maxSize = maxSize;
+  }
+
+  public V get(K key) {
+    final Entry<V> entry = map.get(key);
+    return entry == null ? null : entry.use();
+  }
+
+  public V computeIfAbsent(K key, Function<K, V> mappingFunction) {
+    final Entry<V> entry = map.get(key);
+    if (entry != null) {
+      return entry.use();
+    }
+    final V value = mappingFunction.apply(key);
+    if (value == null || maxSize == 0) {
+      return value;
+    }
+    final Entry<V> existing = map.putIfAbsent(key, new Entry<>(value));
+    if (existing != null) {
+      return existing.use();
+    }
+    evictIfFull();
+    return value;
+  }
+
+  public void put(K key, V value) {
+    if (maxSize == 0) {
+      return;
+    }
+    map.put(key, new Entry<>(value));
+    evictIfFull();
+  }
+
+  public int size() {
+    return map.size();
+  }
+
+  public int getMaxSize() {
+    return maxSize;
+  }
+
+  public void clear() {
+    map.clear();
+  }
+
+  private void evictIfFull() {
+    if (map.size() <= maxSize || !evictionLock.tryLock()) {
+      return;
+    }
+    try {
+      final int targetSize = maxSize - maxSize / 4;
+      // the first pass gives referenced entries a second chance, the second one removes any entry
+      for (int pass = 0; pass < 2 && map.size() > targetSize; pass++) {
+        for (Iterator<Entry<V>> it = map.values().iterator(); it.hasNext() && map.size() > targetSize;) {
+          final Entry<V> entry = it.next();
+          if (pass == 0 && entry.referenced) {
+            entry.referenced = false;
+          } else {
+            it.remove();
+          }
+        }
+      }
+    } finally {
+      evictionLock.unlock();
+    }
+  }
+
+  private static final class Entry<V> {
+    private final V value;
+    private volatile boolean referenced;
+
+    Entry(V value) {
+      this.value = value;
+    }
+
+    V use() {
+      if (!referenced) {
+        referenced = true;
+      }
+      return value;
+    }
+  }
+
+}
@@ -1,5 +1,5 @@
 /*
- *    Copyright 2009-2024 the original author or authors.
+ *    Copyright 2009-2026 the original author or authors.
  *
  *    Licensed under the Apache License, Version 2.0 (the "License");
  *    you may not use this file except in compliance with the License.
@@ -110,6 +110,13 @@ class XmlConfigBuilderTest {
       assertThat(config.isArgNameBasedConstructorAutoMapping()).isFalse();
       assertThat(config.getDefaultSqlProviderType()).isNull();
       assertThat(config.isNullableOnForEach()).isFalse();
+      assertThat(config.isCursorResultOrdered()).isFalse();
+      assertThat(config.isDynamicSqlShapeCacheEnabled()).isFalse();
+      assertThat(config.isBatchStatementGrouping()).isFalse();
+      assertThat(config.getBatchMaxStatementRows()).isNull();
+      assertThat(config.getBatchMaxRows()).isNull();
+      assertThat(config.getBatchMaxBytes()).isNull();
+      assertThat(config.isBatchReleaseParameterObjects()).isFalse();
     }
   }
 
@@ -215,6 +222,13 @@ class XmlConfigBuilderTest {
       assertThat(config.isArgNameBasedConstructorAutoMapping()).isTrue();
       assertThat(config.getDefaultSqlProviderType().getName()).isEqualTo(MySqlProvider.class.getName());
       assertThat(config.isNullableOnForEach()).isTrue();
+      assertThat(config.isCursorResultOrdered()).isTrue();
+      assertThat(config.isDynamicSqlShapeCacheEnabled()).isTrue();
+      assertThat(config.isBatchStatementGrouping()).isTrue();
+      assertThat(config.getBatchMaxStatementRows()).isEqualTo(1000);
+      assertThat(config.getBatchMaxRows()).isEqualTo(5000);
+      assertThat(config.getBatchMaxBytes()).isEqualTo(1048576);
+      assertThat(config.isBatchReleaseParameterObjects()).isTrue();
 
       assertThat(config.getTypeAliasRegistry().getTypeAliases().get("blogauthor")).isEqualTo(Author.class);
       assertThat(config.getTypeAliasRegistry().getTypeAliases().get("blog")).isEqualTo(Blog.class);
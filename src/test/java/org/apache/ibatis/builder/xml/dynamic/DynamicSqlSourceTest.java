@@ -1,5 +1,5 @@
 /*
- *    Copyright 2009-2023 the original author or authors.
+ *    Copyright 2009-2026 the original author or authors.
  *
  *    Licensed under the Apache License, Version 2.0 (the "License");
  *    you may not use this file except in compliance with the License.
@@ -16,6 +16,8 @@
 package org.apache.ibatis.builder.xml.dynamic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 import java.io.IOException;
 import java.io.Reader;
@@ -25,10 +27,12 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.ibatis.BaseDataTest;
 import org.apache.ibatis.io.Resources;
 import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.ParameterMapping;
 import org.apache.ibatis.scripting.xmltags.ChooseSqlNode;
 import org.apache.ibatis.scripting.xmltags.DynamicSqlSource;
 import org.apache.ibatis.scripting.xmltags.ForEachSqlNode;
@@ -36,7 +40,9 @@ import org.apache.ibatis.scripting.xmltags.IfSqlNode;
 import org.apache.ibatis.scripting.xmltags.MixedSqlNode;
 import org.apache.ibatis.scripting.xmltags.SetSqlNode;
 import org.apache.ibatis.scripting.xmltags.SqlNode;
+import org.apache.ibatis.scripting.xmltags.StaticTextSqlNode;
 import org.apache.ibatis.scripting.xmltags.TextSqlNode;
+import org.apache.ibatis.scripting.xmltags.VarDeclSqlNode;
 import org.apache.ibatis.scripting.xmltags.WhereSqlNode;
 import org.apache.ibatis.session.Configuration;
 import org.apache.ibatis.session.SqlSessionFactory;
@@ -297,6 +303,134 @@ class DynamicSqlSourceTest extends BaseDataTest {
     assertEquals(expected, boundSql.getSql());
   }
 
+  @Test
+  void shouldPadForEachToPowerOfTwo() throws Exception {
+    final Configuration configuration = new Configuration();
+    final int[] sizes = { 1, 2, 3, 4, 5 };
+    final int[] paddedSizes = { 1, 2, 4, 4, 8 };
+    for (int n = 0; n < sizes.length; n++) {
+      List<Integer> ids = new ArrayList<>();
+      for (int id = 1; id <= sizes[n]; id++) {
+        ids.add(id);
+      }
+      DynamicSqlSource source = createDynamicSqlSource(new TextSqlNode("SELECT * FROM BLOG"),
+          new ForEachSqlNode(configuration, mixedContents(new TextSqlNode("#{item}")), "list", null, true, null,
+              "item", "WHERE id in (", ")", ","));
+      BoundSql boundSql = source.getBoundSql(Map.of("list", ids));
+      assertEquals(paddedSizes[n], boundSql.getSql().chars().filter(c -> c == '?').count());
+      assertEquals(paddedSizes[n], boundSql.getParameterMappings().size());
+      List<Object> values = new ArrayList<>();
+      for (int i = 0; i < boundSql.getParameterMappings().size(); i++) {
+        values.add(boundSql.getAdditionalParameter(boundSql.getParameterMappings().get(i).getProperty()));
+      }
+      assertEquals(ids, values.subList(0, ids.size()));
+      for (Object padded : values.subList(ids.size(), values.size())) {
+        assertEquals(sizes[n], padded);
+      }
+    }
+  }
+
+  @Test
+  void shouldReuseParameterMappingsOfSameSql() throws Exception {
+    final Configuration configuration = new Configuration();
+    DynamicSqlSource source = createDynamicSqlSource(new TextSqlNode("SELECT * FROM BLOG"),
+        new ForEachSqlNode(configuration, mixedContents(new TextSqlNode("#{item}")), "list", "index", "item",
+            "WHERE id in (", ")", ","));
+    BoundSql first = source.getBoundSql(Map.of("list", List.of(1, 2)));
+    BoundSql second = source.getBoundSql(Map.of("list", List.of(3, 4)));
+    assertSame(first.getParameterMappings(), second.getParameterMappings());
+    assertEquals(3, second.getAdditionalParameter(second.getParameterMappings().get(0).getProperty()));
+
+    BoundSql strings = source.getBoundSql(Map.of("list", List.of("a", "b")));
+    assertNotSame(first.getParameterMappings(), strings.getParameterMappings());
+    assertEquals(Integer.class, first.getParameterMappings().get(0).getJavaType());
+    assertEquals(String.class, strings.getParameterMappings().get(0).getJavaType());
+  }
+
+  @Test
+  void shouldReuseSqlOfSameShape() {
+    final Configuration configuration = new Configuration();
+    configuration.setDynamicSqlShapeCacheEnabled(true);
+    final MixedSqlNode rootSqlNode = mixedContents(new StaticTextSqlNode("SELECT * FROM BLOG"),
+        new WhereSqlNode(configuration, mixedContents(
+            new IfSqlNode(new StaticTextSqlNode("AND title = #{title}"), "title != null"),
+            new ChooseSqlNode(
+                List.of(new IfSqlNode(new StaticTextSqlNode("AND author_id = #{author}"), "author != null")),
+                new StaticTextSqlNode("AND author_id IS NULL")),
+            new ForEachSqlNode(configuration, mixedContents(new IfSqlNode(new StaticTextSqlNode("#{id}"), "id > 0")),
+                "ids", null, "id", "AND id IN (", ")", ","))));
+    final DynamicSqlSource cached = new DynamicSqlSource(configuration, rootSqlNode);
+    final DynamicSqlSource generated = new DynamicSqlSource(new Configuration(), rootSqlNode);
+
+    final List<Map<String, Object>> parameters = new ArrayList<>();
+    parameters.add(blogParameter("a", 1, 1, 2));
+    parameters.add(blogParameter("b", 2, 3, 4));
+    parameters.add(blogParameter(null, null, 1, -1, 2));
+    parameters.add(blogParameter(null, null, 5, -6, 7));
+    parameters.add(blogParameter("c", null));
+    for (Map<String, Object> parameter : parameters) {
+      BoundSql expected = generated.getBoundSql(parameter);
+      BoundSql actual = cached.getBoundSql(parameter);
+      assertEquals(expected.getSql(), actual.getSql());
+      assertEquals(parameterValues(expected, parameter), parameterValues(actual, parameter));
+    }
+    assertSame(cached.getBoundSql(parameters.get(0)).getSql(), cached.getBoundSql(parameters.get(1)).getSql());
+  }
+
+  @Test
+  void shouldEvaluateOnlyTestsOfCachedShape() {
+    final Configuration configuration = new Configuration();
+    configuration.setDynamicSqlShapeCacheEnabled(true);
+    final AtomicInteger reads = new AtomicInteger();
+    final Map<String, Object> parameter = new HashMap<>() {
+      private static final long serialVersionUID = 1L;
+
+      @Override
+      public Object get(Object key) {
+        reads.incrementAndGet();
+        return super.get(key);
+      }
+    };
+    parameter.put("title", "a");
+    final DynamicSqlSource source = new DynamicSqlSource(configuration,
+        mixedContents(new StaticTextSqlNode("SELECT * FROM BLOG"), new VarDeclSqlNode("pattern", "title + '%'"),
+            new IfSqlNode(new StaticTextSqlNode("WHERE title LIKE #{pattern}"), "title != null")));
+
+    // a new shape is generated from the values bound while evaluating it
+    BoundSql generated = source.getBoundSql(parameter);
+    assertEquals("SELECT * FROM BLOG WHERE title LIKE ?", generated.getSql());
+    assertEquals("a%", generated.getAdditionalParameter("pattern"));
+    assertEquals(2, reads.getAndSet(0));
+    source.getBoundSql(parameter);
+    assertEquals(2, reads.get());
+
+    // ${} makes the SQL depend on values
+    final DynamicSqlSource substituted = new DynamicSqlSource(configuration,
+        mixedContents(new TextSqlNode("SELECT * FROM ${title}")));
+    assertEquals("SELECT * FROM a", substituted.getBoundSql(parameter).getSql());
+    parameter.put("title", "b");
+    assertEquals("SELECT * FROM b", substituted.getBoundSql(parameter).getSql());
+  }
+
+  private static Map<String, Object> blogParameter(String title, Integer author, Integer... ids) {
+    final Map<String, Object> parameter = new HashMap<>();
+    parameter.put("title", title);
+    parameter.put("author", author);
+    parameter.put("ids", Arrays.asList(ids));
+    return parameter;
+  }
+
+  private static List<Object> parameterValues(BoundSql boundSql, Map<String, Object> parameter) {
+    final List<Object> values = new ArrayList<>();
+    for (ParameterMapping parameterMapping : boundSql.getParameterMappings()) {
+      final String property = parameterMapping.getProperty();
+      values.add(property);
+      values.add(boundSql.hasAdditionalParameter(property) ? boundSql.getAdditionalParameter(property)
+          : parameter.get(property));
+    }
+    return values;
+  }
+
   @Test
   void shouldSkipForEachWhenCollectionIsEmpty() throws Exception {
     final HashMap<String, Integer[]> parameterObject = new HashMap<>() {
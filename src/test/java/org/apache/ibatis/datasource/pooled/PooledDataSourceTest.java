@@ -1,5 +1,5 @@
 /*
- *    Copyright 2009-2023 the original author or authors.
+ *    Copyright 2009-2026 the original author or authors.
  *
  *    Licensed under the Apache License, Version 2.0 (the "License");
  *    you may not use this file except in compliance with the License.
@@ -27,6 +27,7 @@ import java.util.List;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 
+import org.apache.ibatis.datasource.unpooled.UnpooledDataSource;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -158,4 +159,47 @@ class PooledDataSourceTest {
     assertEquals(0, poolState.getActiveConnectionCount());
     assertEquals(0, poolState.getIdleConnectionCount());
   }
+
+  @Test
+  void shouldNotBlockPoolWhileOpeningConnection() throws Exception {
+    CountDownLatch connecting = new CountDownLatch(1);
+    CountDownLatch connect = new CountDownLatch(1);
+    UnpooledDataSource unpooledDataSource = new UnpooledDataSource("org.hsqldb.jdbcDriver",
+        "jdbc:hsqldb:mem:multipledrivers", "sa", "") {
+      @Override
+      public Connection getConnection() throws SQLException {
+        if (Thread.currentThread().getName().equals("slow-connect")) {
+          connecting.countDown();
+          try {
+            connect.await();
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+        }
+        return super.getConnection();
+      }
+    };
+    dataSource = new PooledDataSource(unpooledDataSource);
+    dataSource.setPoolMaximumActiveConnections(2);
+    Connection connection = dataSource.getConnection();
+
+    CountDownLatch connected = new CountDownLatch(1);
+    new Thread(() -> {
+      try (Connection slowConnection = dataSource.getConnection()) {
+        connected.countDown();
+      } catch (SQLException e) {
+        throw new RuntimeException(e);
+      }
+    }, "slow-connect").start();
+    assertTrue(connecting.await(5000, TimeUnit.MILLISECONDS));
+
+    // the connection being opened takes the last slot, but idle connections are still handed out
+    connection.close();
+    try (Connection reused = dataSource.getConnection()) {
+      assertEquals(1, dataSource.getPoolState().getActiveConnectionCount());
+    }
+
+    connect.countDown();
+    assertTrue(connected.await(5000, TimeUnit.MILLISECONDS));
+  }
 }
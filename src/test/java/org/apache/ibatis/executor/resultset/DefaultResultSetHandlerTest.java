@@ -1,5 +1,5 @@
 /*
- *    Copyright 2009-2023 the original author or authors.
+ *    Copyright 2009-2026 the original author or authors.
  *
  *    Licensed under the Apache License, Version 2.0 (the "License");
  *    you may not use this file except in compliance with the License.
@@ -16,12 +16,19 @@
 package org.apache.ibatis.executor.resultset;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.sql.CallableStatement;
 import java.sql.Connection;
 import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
@@ -31,12 +38,15 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import org.apache.ibatis.builder.StaticSqlSource;
 import org.apache.ibatis.executor.Executor;
 import org.apache.ibatis.executor.ExecutorException;
 import org.apache.ibatis.executor.parameter.ParameterHandler;
 import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.Discriminator;
 import org.apache.ibatis.mapping.MappedStatement;
 import org.apache.ibatis.mapping.ResultMap;
 import org.apache.ibatis.mapping.ResultMapping;
@@ -44,6 +54,8 @@ import org.apache.ibatis.mapping.SqlCommandType;
 import org.apache.ibatis.session.Configuration;
 import org.apache.ibatis.session.ResultHandler;
 import org.apache.ibatis.session.RowBounds;
+import org.apache.ibatis.type.BaseTypeHandler;
+import org.apache.ibatis.type.JdbcType;
 import org.apache.ibatis.type.TypeHandler;
 import org.apache.ibatis.type.TypeHandlerRegistry;
 import org.junit.jupiter.api.Assertions;
@@ -88,7 +100,7 @@ class DefaultResultSetHandlerTest {
     when(rs.getMetaData()).thenReturn(rsmd);
     when(rs.getType()).thenReturn(ResultSet.TYPE_FORWARD_ONLY);
     when(rs.next()).thenReturn(true).thenReturn(false);
-    when(rs.getInt("CoLuMn1")).thenReturn(100);
+    when(rs.getInt(1)).thenReturn(100);
     when(rsmd.getColumnCount()).thenReturn(1);
     when(rsmd.getColumnLabel(1)).thenReturn("CoLuMn1");
     when(rsmd.getColumnType(1)).thenReturn(Types.INTEGER);
@@ -130,6 +142,192 @@ class DefaultResultSetHandlerTest {
     }
   }
 
+  @Test
+  void shouldShareRowMappingPlanAcrossExecutions() throws Exception {
+    final MappedStatement ms = getMappedStatement();
+    final Configuration config = ms.getConfiguration();
+    final ResultMap resultMap = ms.getResultMaps().get(0);
+
+    when(stmt.getResultSet()).thenReturn(rs);
+    when(rs.getMetaData()).thenReturn(rsmd);
+    when(rs.getType()).thenReturn(ResultSet.TYPE_FORWARD_ONLY);
+    when(rs.next()).thenReturn(true).thenReturn(false).thenReturn(true).thenReturn(false);
+    when(rs.getInt(1)).thenReturn(100);
+    when(rs.getString(2)).thenReturn("foo");
+    when(rsmd.getColumnCount()).thenReturn(2);
+    when(rsmd.getColumnLabel(1)).thenReturn("CoLuMn1");
+    when(rsmd.getColumnLabel(2)).thenReturn("CoLuMn2");
+    when(rsmd.getColumnType(1)).thenReturn(Types.INTEGER);
+    when(rsmd.getColumnType(2)).thenReturn(Types.VARCHAR);
+    when(rsmd.getColumnClassName(1)).thenReturn(Integer.class.getCanonicalName());
+    when(rsmd.getColumnClassName(2)).thenReturn(String.class.getCanonicalName());
+    when(stmt.getConnection()).thenReturn(conn);
+    when(conn.getMetaData()).thenReturn(dbmd);
+    when(dbmd.supportsMultipleResultSets()).thenReturn(false);
+
+    for (int i = 0; i < 2; i++) {
+      final List<Object> results = new DefaultResultSetHandler(null, ms, null, null, null, new RowBounds(0, 100))
+          .handleResultSets(stmt);
+      assertEquals(1, results.size());
+      assertEquals(100, ((HashMap) results.get(0)).get("cOlUmN1"));
+      assertEquals("foo", ((HashMap) results.get(0)).get("CoLuMn2"));
+    }
+
+    assertEquals(1, config.getRowMappingPlanCache().size());
+    final RowMappingPlan plan = new ResultSetWrapper(rs, config).getMappingPlan(resultMap, null);
+    assertSame(plan, new ResultSetWrapper(rs, config).getMappingPlan(resultMap, null));
+    assertEquals(Set.of("COLUMN1"), plan.getMappedColumnNames());
+    assertEquals(List.of("CoLuMn2"), plan.getUnmappedColumnNames());
+    assertEquals(1, plan.getAutoMappings().size());
+
+    config.setMapUnderscoreToCamelCase(true);
+    assertEquals(0, config.getRowMappingPlanCache().size());
+  }
+
+  @Test
+  void shouldReadColumnsOfCustomTypeHandlersByLabel() throws Exception {
+    final Configuration config = new Configuration();
+    final MappedStatement ms = new MappedStatement.Builder(config, "testSelect",
+        new StaticSqlSource(config, "some select statement"), SqlCommandType.SELECT)
+        .resultMaps(List.of(new ResultMap.Builder(config, "testMap", HashMap.class,
+            List.of(new ResultMapping.Builder(config, "cOlUmN1", "CoLuMn1", new LabelOnlyTypeHandler()).build()))
+            .build()))
+        .build();
+
+    when(stmt.getResultSet()).thenReturn(rs);
+    when(rs.getMetaData()).thenReturn(rsmd);
+    when(rs.getType()).thenReturn(ResultSet.TYPE_FORWARD_ONLY);
+    when(rs.next()).thenReturn(true).thenReturn(false);
+    when(rs.getString("CoLuMn1")).thenReturn("custom");
+    when(rs.getString(2)).thenReturn("foo");
+    when(rsmd.getColumnCount()).thenReturn(2);
+    when(rsmd.getColumnLabel(1)).thenReturn("CoLuMn1");
+    when(rsmd.getColumnLabel(2)).thenReturn("CoLuMn2");
+    when(rsmd.getColumnType(1)).thenReturn(Types.VARCHAR);
+    when(rsmd.getColumnType(2)).thenReturn(Types.VARCHAR);
+    when(rsmd.getColumnClassName(1)).thenReturn(String.class.getCanonicalName());
+    when(rsmd.getColumnClassName(2)).thenReturn(String.class.getCanonicalName());
+    when(stmt.getConnection()).thenReturn(conn);
+    when(conn.getMetaData()).thenReturn(dbmd);
+    when(dbmd.supportsMultipleResultSets()).thenReturn(false);
+
+    final List<Object> results = new DefaultResultSetHandler(null, ms, null, null, null, new RowBounds(0, 100))
+        .handleResultSets(stmt);
+    assertEquals(1, results.size());
+    assertEquals("custom", ((HashMap) results.get(0)).get("cOlUmN1"));
+    // the built-in handler of the auto-mapped column still reads by index
+    assertEquals("foo", ((HashMap) results.get(0)).get("CoLuMn2"));
+  }
+
+  @Test
+  void shouldResolveDiscriminatedResultMapByLabel() throws Exception {
+    final MappedStatement ms = getMappedStatement();
+    final Configuration config = ms.getConfiguration();
+    final ResultMap caseMap = new ResultMap.Builder(config, "caseMap", HashMap.class, new ArrayList<>()).build();
+    config.addResultMap(caseMap);
+    final ResultMapping kind = new ResultMapping.Builder(config, "kind", "kind",
+        config.getTypeHandlerRegistry().getTypeHandler(String.class)).build();
+    final ResultMap resultMap = new ResultMap.Builder(config, "discriminatedMap", HashMap.class, new ArrayList<>())
+        .discriminator(new Discriminator.Builder(config, kind, Map.of("special", "caseMap")).build()).build();
+    when(rs.getString("p_kind")).thenReturn("special");
+
+    final DefaultResultSetHandler handler = new DefaultResultSetHandler(null, ms, null, null, null,
+        new RowBounds(0, 100));
+    assertSame(caseMap, handler.resolveDiscriminatedResultMap(rs, resultMap, "p_"));
+    verify(rs, never()).getMetaData();
+  }
+
+  @Test
+  void shouldReuseColumnSignatureOfSameSql() throws Exception {
+    final MappedStatement ms = getMappedStatement();
+    final Configuration config = ms.getConfiguration();
+    final BoundSql boundSql = new BoundSql(config, "some select statement", Collections.emptyList(), null);
+
+    when(stmt.getResultSet()).thenReturn(rs);
+    when(rs.getMetaData()).thenReturn(rsmd);
+    when(rs.getType()).thenReturn(ResultSet.TYPE_FORWARD_ONLY);
+    when(rs.next()).thenReturn(true).thenReturn(false).thenReturn(true).thenReturn(false);
+    when(rs.getInt(1)).thenReturn(100);
+    when(rsmd.getColumnCount()).thenReturn(1);
+    when(rsmd.getColumnLabel(1)).thenReturn("CoLuMn1");
+    when(rsmd.getColumnType(1)).thenReturn(Types.INTEGER);
+    when(rsmd.getColumnClassName(1)).thenReturn(Integer.class.getCanonicalName());
+    when(stmt.getConnection()).thenReturn(conn);
+    when(conn.getMetaData()).thenReturn(dbmd);
+    when(dbmd.supportsMultipleResultSets()).thenReturn(false);
+
+    for (int i = 0; i < 2; i++) {
+      final List<Object> results = new DefaultResultSetHandler(null, ms, null, null, boundSql,
+          new RowBounds(0, 100)).handleResultSets(stmt);
+      assertEquals(100, ((HashMap) results.get(0)).get("cOlUmN1"));
+    }
+
+    verify(rsmd, times(1)).getColumnLabel(1);
+    verify(rsmd, times(1)).getColumnClassName(1);
+    assertEquals(1, config.getColumnSignatureCache().size());
+
+    // a different column count is read again
+    when(rsmd.getColumnCount()).thenReturn(2);
+    when(rsmd.getColumnLabel(2)).thenReturn("CoLuMn2");
+    final ResultSetWrapper rsw = new ResultSetWrapper(rs, config,
+        new ColumnSignature.Key(ms.getId(), boundSql.getSql(), 0));
+    assertEquals(List.of("CoLuMn1", "CoLuMn2"), rsw.getColumnNames());
+    assertSame(rsw.getTypeHandler(Integer.class, "CoLuMn1"), new ResultSetWrapper(rs, config,
+        new ColumnSignature.Key(ms.getId(), boundSql.getSql(), 0)).getTypeHandler(Integer.class, "CoLuMn1"));
+
+    config.setUseColumnLabel(false);
+    assertEquals(0, config.getColumnSignatureCache().size());
+  }
+
+  @Test
+  void shouldKeySignaturesByStatementAndSql() {
+    assertEquals(new ColumnSignature.Key("ns.select", "select * from t", 0),
+        new ColumnSignature.Key("ns.select", new String("select * from t"), 0));
+    assertNotEquals(new ColumnSignature.Key("ns.select", "select * from t", 0),
+        new ColumnSignature.Key("ns.select", "select * from u", 0));
+    assertNotEquals(new ColumnSignature.Key("ns.select", "select * from t", 0),
+        new ColumnSignature.Key("ns.other", "select * from t", 0));
+    assertNotEquals(new ColumnSignature.Key("ns.select", "select * from t", 0),
+        new ColumnSignature.Key("ns.select", "select * from t", 1));
+  }
+
+  @Test
+  void shouldResolveColumnIndexLikeDriver() throws Exception {
+    final Configuration config = new Configuration();
+    when(rs.getMetaData()).thenReturn(rsmd);
+    when(rsmd.getColumnCount()).thenReturn(3);
+    when(rsmd.getColumnLabel(1)).thenReturn("id");
+    when(rsmd.getColumnLabel(2)).thenReturn("NAME");
+    when(rsmd.getColumnLabel(3)).thenReturn("name");
+
+    final ResultSetWrapper rsw = new ResultSetWrapper(rs, config);
+    assertEquals(1, rsw.getColumnIndex("ID"));
+    assertEquals(2, rsw.getColumnIndex("name"));
+    assertEquals(0, rsw.getColumnIndex("missing"));
+  }
+
+  static class LabelOnlyTypeHandler extends BaseTypeHandler<String> {
+    @Override
+    public void setNonNullParameter(PreparedStatement ps, int i, String parameter, JdbcType jdbcType) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public String getNullableResult(ResultSet rs, String columnName) throws SQLException {
+      return rs.getString(columnName);
+    }
+
+    @Override
+    public String getNullableResult(ResultSet rs, int columnIndex) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public String getNullableResult(CallableStatement cs, int columnIndex) {
+      throw new UnsupportedOperationException();
+    }
+  }
+
   MappedStatement getMappedStatement() {
     final Configuration config = new Configuration();
     final TypeHandlerRegistry registry = config.getTypeHandlerRegistry();
@@ -0,0 +1,88 @@
+/*
+ *    Copyright 2009-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.apache.ibatis.executor.resultset;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.ibatis.mapping.ResultMap;
+import org.apache.ibatis.session.Configuration;
+import org.junit.jupiter.api.Test;
+
+class RowKeyTest {
+
+  private final Configuration configuration = new Configuration();
+  private final ResultMap resultMap = new ResultMap.Builder(configuration, "rm", Object.class, new ArrayList<>())
+      .build();
+  private final RowMappingPlan plan = new RowMappingPlan(resultMap, null, Arrays.asList("ID", "NAME"));
+  private final RowMappingPlan otherPlan = new RowMappingPlan(resultMap, "P_", Arrays.asList("ID", "NAME"));
+
+  @Test
+  void shouldFindStoredKeyWithReusedProbe() {
+    RowKey probe = new RowKey();
+    Map<RowKey, RowKey> stored = new HashMap<>();
+    RowKey key = fill(probe, plan, new byte[] { 1, 2 }, "a").complete(null).copy();
+    key.setResultObject("first");
+    stored.put(key, key);
+
+    RowKey found = stored.get(fill(probe, plan, new byte[] { 1, 2 }, "a").complete(null));
+    assertSame(key, found);
+    assertEquals("first", found.getResultObject());
+    assertNull(stored.get(fill(probe, plan, new byte[] { 1, 3 }, "a").complete(null)));
+    assertNull(stored.get(fill(probe, plan, new byte[] { 1, 2 }, null).complete(null)));
+  }
+
+  @Test
+  void shouldDistinguishPlansAndParents() {
+    RowKey probe = new RowKey();
+    RowKey parent = fill(probe, plan, 1).complete(null).copy();
+    RowKey otherParent = fill(probe, plan, 1).complete(null).copy();
+    RowKey child = fill(probe, plan, 2).complete(parent).copy();
+
+    assertEquals(child, fill(probe, plan, 2).complete(parent));
+    assertNotEquals(child, fill(probe, otherPlan, 2).complete(parent));
+    // parents are canonical instances, equal values are not enough
+    assertNotEquals(child, fill(probe, plan, 2).complete(otherParent));
+    assertNotEquals(child, fill(probe, plan, 2).complete(null));
+  }
+
+  @Test
+  void shouldGrowBeyondInitialCapacity() {
+    RowKey probe = new RowKey();
+    Object[] values = new Object[20];
+    Arrays.setAll(values, i -> i);
+    RowKey key = fill(probe, plan, values).complete(null).copy();
+    assertEquals(key, fill(probe, plan, values).complete(null));
+    values[19] = -1;
+    assertNotEquals(key, fill(probe, plan, values).complete(null));
+  }
+
+  private static RowKey fill(RowKey probe, RowMappingPlan plan, Object... values) {
+    probe.reset(plan);
+    for (Object value : values) {
+      probe.add(value);
+    }
+    return probe;
+  }
+
+}
@@ -1,5 +1,5 @@
 /*
- *    Copyright 2009-2023 the original author or authors.
+ *    Copyright 2009-2026 the original author or authors.
  *
  *    Licensed under the Apache License, Version 2.0 (the "License");
  *    you may not use this file except in compliance with the License.
@@ -15,7 +15,9 @@
  */
 package org.apache.ibatis.mapping;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.Collections;
@@ -61,6 +63,49 @@ class BoundSqlTest {
     assertTrue(boundSql.hasAdditionalParameter("array[99]"), "should return true even if the element does not exists.");
   }
 
+  @Test
+  void shouldResolveParameterValuesOnce() {
+    Configuration configuration = new Configuration();
+    List<ParameterMapping> params = List.of(
+        new ParameterMapping.Builder(configuration, "id", Integer.class).build(),
+        new ParameterMapping.Builder(configuration, "name", String.class).mode(ParameterMode.OUT).build(),
+        new ParameterMapping.Builder(configuration, "extra", String.class).build());
+    Person bean = new Person();
+    bean.id = 1;
+    BoundSql boundSql = new BoundSql(configuration, "some sql", params, bean);
+    boundSql.setAdditionalParameter("extra", "additional");
+
+    Object[] values = boundSql.getParameterValues(bean);
+    assertArrayEquals(new Object[] { 1, null, "additional" }, values);
+    bean.id = 2;
+    assertSame(values, boundSql.getParameterValues(bean));
+
+    boundSql.setAdditionalParameter("extra", "changed");
+    assertArrayEquals(new Object[] { 2, null, "changed" }, boundSql.getParameterValues(bean));
+    assertArrayEquals(new Object[] { 7, null, "changed" }, boundSql.getParameterValues(7));
+  }
+
+  @Test
+  void shouldReadParameterValuesAgainWhenCleared() {
+    Configuration configuration = new Configuration();
+    List<ParameterMapping> params = List.of(new ParameterMapping.Builder(configuration, "id", Integer.class).build(),
+        new ParameterMapping.Builder(configuration, "tenant", String.class).build());
+    Person bean = new Person();
+    bean.id = 1;
+    BoundSql boundSql = new BoundSql(configuration, "some sql", params, bean);
+    boundSql.setAdditionalParameter("tenant", "a");
+    assertArrayEquals(new Object[] { 1, "a" }, boundSql.getParameterValues(bean));
+
+    // e.g. a plugin intercepting setParameters
+    bean.id = 2;
+    boundSql.getAdditionalParameters().put("tenant", "b");
+    assertArrayEquals(new Object[] { 1, "a" }, boundSql.getParameterValues(bean));
+    boundSql.clearParameterValues();
+    Object[] values = boundSql.getParameterValues(bean);
+    assertArrayEquals(new Object[] { 2, "b" }, values);
+    assertSame(values, boundSql.getParameterValues(bean));
+  }
+
   public static class Person {
     public Integer id;
   }
@@ -0,0 +1,68 @@
+/*
+ *    Copyright 2009-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.apache.ibatis.mapping;
+
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.ibatis.session.Configuration;
+import org.junit.jupiter.api.Test;
+
+class DiscriminatorTest {
+
+  @Test
+  void shouldResolveResultMapByValue() {
+    Configuration configuration = new Configuration();
+    ResultMap car = new ResultMap.Builder(configuration, "car", HashMap.class, new ArrayList<>()).build();
+    ResultMap truck = new ResultMap.Builder(configuration, "truck", HashMap.class, new ArrayList<>()).build();
+    configuration.addResultMap(car);
+    configuration.addResultMap(truck);
+    Map<String, String> cases = new HashMap<>();
+    cases.put("1", "car");
+    cases.put("2", "truck");
+    cases.put("3", "missing");
+    Discriminator discriminator = new Discriminator.Builder(configuration,
+        new ResultMapping.Builder(configuration, "vehicleType", "vehicle_type", Integer.class).build(), cases).build();
+
+    assertSame(car, discriminator.getResultMapFor(1));
+    assertSame(car, discriminator.getResultMapFor(1));
+    assertSame(truck, discriminator.getResultMapFor(2));
+    assertSame(truck, discriminator.getResultMapFor("2"));
+    assertSame(car, discriminator.getResultMapFor(1L));
+    assertNull(discriminator.getResultMapFor(3));
+    assertNull(discriminator.getResultMapFor(4));
+    assertNull(discriminator.getResultMapFor(null));
+  }
+
+  @Test
+  void shouldResolveResultMapAddedAfterMiss() {
+    Configuration configuration = new Configuration();
+    Map<String, String> cases = new HashMap<>();
+    cases.put("1", "car");
+    Discriminator discriminator = new Discriminator.Builder(configuration,
+        new ResultMapping.Builder(configuration, "vehicleType", "vehicle_type", Integer.class).build(), cases).build();
+
+    assertNull(discriminator.getResultMapFor(1));
+    ResultMap car = new ResultMap.Builder(configuration, "car", HashMap.class, new ArrayList<>()).build();
+    configuration.addResultMap(car);
+    assertSame(car, discriminator.getResultMapFor(1));
+  }
+
+}
@@ -0,0 +1,108 @@
+/*
+ *    Copyright 2009-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.apache.ibatis.reflection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+
+import org.apache.ibatis.reflection.factory.DefaultObjectFactory;
+import org.apache.ibatis.reflection.invoker.GeneratedGetFieldInvoker;
+import org.apache.ibatis.reflection.invoker.GeneratedMethodInvoker;
+import org.apache.ibatis.reflection.invoker.GeneratedSetFieldInvoker;
+import org.apache.ibatis.reflection.invoker.MethodInvoker;
+import org.apache.ibatis.reflection.invoker.SetFieldInvoker;
+import org.apache.ibatis.reflection.wrapper.DefaultObjectWrapperFactory;
+import org.junit.jupiter.api.Test;
+
+class GeneratedAccessorReflectorFactoryTest {
+
+  private final ReflectorFactory reflectorFactory = new GeneratedAccessorReflectorFactory();
+
+  @Test
+  void shouldUseGeneratedInvokers() {
+    Reflector reflector = reflectorFactory.findForClass(Bean.class);
+    assertThat(reflector.getGetInvoker("name")).isInstanceOf(GeneratedMethodInvoker.class);
+    assertThat(reflector.getSetInvoker("name")).isInstanceOf(GeneratedMethodInvoker.class);
+    assertThat(reflector.getGetInvoker("count")).isInstanceOf(GeneratedMethodInvoker.class);
+    assertThat(reflector.getSetInvoker("count")).isInstanceOf(GeneratedMethodInvoker.class);
+    assertThat(reflector.getGetInvoker("field")).isInstanceOf(GeneratedGetFieldInvoker.class);
+    assertThat(reflector.getSetInvoker("field")).isInstanceOf(GeneratedSetFieldInvoker.class);
+    assertThat(reflector.getSetInvoker("finalField")).isExactlyInstanceOf(SetFieldInvoker.class);
+    assertThat(reflectorFactory.findForClass(Bean.class)).isSameAs(reflector);
+  }
+
+  @Test
+  void shouldReadAndWriteProperties() {
+    Bean bean = new Bean();
+    MetaObject metaObject = MetaObject.forObject(bean, new DefaultObjectFactory(), new DefaultObjectWrapperFactory(),
+        reflectorFactory);
+    metaObject.setValue("name", "foo");
+    metaObject.setValue("count", 3);
+    metaObject.setValue("field", "bar");
+    metaObject.setValue("finalField", "baz");
+    assertThat(metaObject.getValue("name")).isEqualTo("foo");
+    assertThat(metaObject.getValue("count")).isEqualTo(3);
+    assertThat(metaObject.getValue("field")).isEqualTo("bar");
+    assertThat(metaObject.getValue("finalField")).isEqualTo("baz");
+    assertThat(bean.count).isEqualTo(3);
+  }
+
+  @Test
+  void shouldWrapExceptionThrownByAccessor() {
+    Reflector reflector = reflectorFactory.findForClass(Bean.class);
+    assertThatThrownBy(() -> reflector.getGetInvoker("failing").invoke(new Bean(), new Object[0]))
+        .isInstanceOf(InvocationTargetException.class).cause().isInstanceOf(IllegalStateException.class)
+        .hasMessage("failing getter");
+  }
+
+  @Test
+  void shouldFallBackToReflectionForClassesNotOpenToMyBatis() throws Exception {
+    Reflector reflector = reflectorFactory.findForClass(ArrayList.class);
+    assertThat(reflector.getGetInvoker("empty")).isExactlyInstanceOf(MethodInvoker.class);
+    assertThat(reflector.getGetInvoker("empty").invoke(new ArrayList<>(), new Object[0])).isEqualTo(true);
+  }
+
+  static class Bean {
+    private String name;
+    private int count;
+    private String field;
+    private final String finalField = null;
+
+    public String getName() {
+      return name;
+    }
+
+    public void setName(String name) {
+      this.name = name;
+    }
+
+    public int getCount() {
+      return count;
+    }
+
+    public void setCount(int count) {
+      this.count = count;
+    }
+
+    public String getFailing() {
+      throw new IllegalStateException("failing getter");
+    }
+  }
+
+}
@@ -1,5 +1,5 @@
 /*
- *    Copyright 2009-2023 the original author or authors.
+ *    Copyright 2009-2026 the original author or authors.
  *
  *    Licensed under the Apache License, Version 2.0 (the "License");
  *    you may not use this file except in compliance with the License.
@@ -33,6 +33,10 @@ import org.apache.ibatis.domain.blog.Section;
 import org.apache.ibatis.domain.misc.CustomBeanWrapper;
 import org.apache.ibatis.domain.misc.CustomBeanWrapperFactory;
 import org.apache.ibatis.domain.misc.RichType;
+import org.apache.ibatis.reflection.property.PropertyTokenizer;
+import org.apache.ibatis.reflection.wrapper.BeanWrapper;
+import org.apache.ibatis.reflection.wrapper.ObjectWrapper;
+import org.apache.ibatis.reflection.wrapper.ObjectWrapperFactory;
 import org.junit.jupiter.api.Test;
 
 class MetaObjectTest {
@@ -298,4 +302,48 @@ class MetaObjectTest {
     assertTrue(meta.hasGetter("filterParams[2]"));
   }
 
+
+  @Test
+  void shouldHandOverNestedPathToWrapperOfIntermediateValue() {
+    Map<String, Object> map = new HashMap<>();
+    Author author = new Author();
+    author.setUsername("cbegin");
+    map.put("author", author);
+    ObjectWrapperFactory wrapperFactory = new ObjectWrapperFactory() {
+      @Override
+      public boolean hasWrapperFor(Object object) {
+        return object instanceof Author;
+      }
+
+      @Override
+      public ObjectWrapper getWrapperFor(MetaObject metaObject, Object object) {
+        return new BeanWrapper(metaObject, object) {
+          @Override
+          public Object get(PropertyTokenizer prop) {
+            return "wrapped " + super.get(prop);
+          }
+        };
+      }
+    };
+    MetaObject meta = MetaObject.forObject(map, SystemMetaObject.DEFAULT_OBJECT_FACTORY, wrapperFactory,
+        new DefaultReflectorFactory());
+
+    assertEquals("wrapped cbegin", meta.getValue("author.username"));
+    assertNull(meta.getValue("missing.username"));
+  }
+
+  @Test
+  void shouldGetAndSetDeepPathOfBeansMapsAndArrays() {
+    RichType rich = new RichType();
+    MetaObject meta = SystemMetaObject.forObject(rich);
+    meta.setValue("richType.richType.richMap.key", "foo");
+    meta.setValue("richType.richType.richList[0]", "baz");
+
+    assertEquals("foo", rich.getRichType().getRichType().getRichMap().get("key"));
+    assertEquals("foo", meta.getValue("richType.richType.richMap.key"));
+    assertEquals("foo", meta.getValue("richType.richType.richMap[key]"));
+    assertEquals("baz", meta.getValue("richType.richType.richList[0]"));
+    assertNull(meta.getValue("richType.richType.richType.richField"));
+  }
+
 }
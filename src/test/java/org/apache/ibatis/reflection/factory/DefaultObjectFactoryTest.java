@@ -1,5 +1,5 @@
 /*
- *    Copyright 2009-2023 the original author or authors.
+ *    Copyright 2009-2026 the original author or authors.
  *
  *    Licensed under the Apache License, Version 2.0 (the "License");
  *    you may not use this file except in compliance with the License.
@@ -62,6 +62,51 @@ class DefaultObjectFactoryTest {
     }
   }
 
+  @Test
+  void createClassWithReusedArgTypeList() {
+    DefaultObjectFactory defaultObjectFactory = new DefaultObjectFactory();
+    List<Class<?>> argTypes = new ArrayList<>(Arrays.asList(String.class, Integer.class));
+    List<Object> args = new ArrayList<>(Arrays.asList("foo", 1));
+    TestClass testClass = defaultObjectFactory.create(TestClass.class, argTypes, args);
+    Assertions.assertEquals("foo", testClass.myString);
+
+    // the cached constructor must not be looked up with a list the caller changed afterwards
+    argTypes.clear();
+    args.clear();
+    argTypes.add(String.class);
+    args.add("bar");
+    Assertions.assertThrows(ReflectionException.class,
+        () -> defaultObjectFactory.create(TestClass.class, argTypes, args));
+
+    testClass = new DefaultObjectFactory().create(TestClass.class, Arrays.asList(String.class, Integer.class),
+        Arrays.asList("baz", 2));
+    Assertions.assertEquals("baz", testClass.myString);
+    Assertions.assertEquals((Integer) 2, testClass.myInteger);
+  }
+
+  @Test
+  void createClassWithPrivateConstructorRepeatedly() {
+    DefaultObjectFactory defaultObjectFactory = new DefaultObjectFactory();
+    for (int i = 0; i < 3; i++) {
+      PrivateConstructorClass instance = defaultObjectFactory.create(PrivateConstructorClass.class,
+          Collections.singletonList(int.class), Collections.singletonList(i));
+      Assertions.assertEquals(i, instance.value);
+      Assertions.assertNotNull(defaultObjectFactory.create(PrivateConstructorClass.class));
+    }
+  }
+
+  static class PrivateConstructorClass {
+    final int value;
+
+    private PrivateConstructorClass() {
+      this(-1);
+    }
+
+    private PrivateConstructorClass(int value) {
+      this.value = value;
+    }
+  }
+
   @Test
   void createHashMap() {
     DefaultObjectFactory defaultObjectFactory = new DefaultObjectFactory();
@@ -1,5 +1,5 @@
 /*
- *    Copyright 2009-2024 the original author or authors.
+ *    Copyright 2009-2026 the original author or authors.
  *
  *    Licensed under the Apache License, Version 2.0 (the "License");
  *    you may not use this file except in compliance with the License.
@@ -75,4 +75,25 @@ class PropertyTokenizerTest {
     assertThatExceptionOfType(UnsupportedOperationException.class).isThrownBy(tokenizer::remove)
         .withMessage("Remove is not supported, as it has no meaning in the context of properties.");
   }
+
+  @Test
+  void shouldShareParsedPath() {
+    PropertyTokenizer tokenizer = PropertyTokenizer.forPath("order.items[1].name");
+
+    assertSame(tokenizer, PropertyTokenizer.forPath("order.items[1].name"));
+    assertSame(tokenizer.next(), tokenizer.next());
+    assertSame(PropertyTokenizer.forPath("items[1].name"), tokenizer.next());
+    assertEquals("items", tokenizer.next().getName());
+    assertEquals("1", tokenizer.next().getIndex());
+    assertEquals("name", tokenizer.next().next().getIndexedName());
+  }
+
+  @Test
+  void shouldNotShareForEachItemPaths() {
+    PropertyTokenizer tokenizer = PropertyTokenizer.forPath("__frch_item_0.name");
+
+    assertNotSame(tokenizer, PropertyTokenizer.forPath("__frch_item_0.name"));
+    assertEquals("__frch_item_0", tokenizer.getName());
+    assertEquals("name", tokenizer.next().getName());
+  }
 }
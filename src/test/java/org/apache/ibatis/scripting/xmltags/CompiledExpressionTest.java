@@ -0,0 +1,243 @@
+/*
+ *    Copyright 2009-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.apache.ibatis.scripting.xmltags;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.ibatis.reflection.DefaultReflectorFactory;
+import org.apache.ibatis.reflection.Reflector;
+import org.apache.ibatis.session.Configuration;
+import org.junit.jupiter.api.Test;
+
+class CompiledExpressionTest {
+
+  private static final String[] PATHS = { "name", "empty", "missing", "count", "id", "flag", "letter", "ratio",
+      "list", "emptyList", "nested", "nested.name", "nested.missing", "map", "map.key", "map.size", "values",
+      "_parameter", "_databaseId" };
+
+  private static final String[] LITERALS = { "null", "''", "\"\"", "'a'", "'abc'", "0", "1", "3", "true", "false" };
+
+  private static final String[] OPERATORS = { "==", "!=", "<", ">", "<=", ">=", "eq", "neq", "gt", "lte" };
+
+  private final Configuration configuration = new Configuration();
+
+  @Test
+  void shouldCompileCommonExpressions() {
+    assertThat(CompiledExpression.compile("name != null")).isNotNull();
+    assertThat(CompiledExpression.compile("name != null and name != ''")).isNotNull();
+    assertThat(CompiledExpression.compile("list != null and list.size() > 0")).isNotNull();
+    assertThat(CompiledExpression.compile("a == 1 or b.c gte 2 && d")).isNotNull();
+  }
+
+  @Test
+  void shouldLeaveOtherExpressionsToOgnl() {
+    assertThat(CompiledExpression.compile("!flag")).isNull();
+    assertThat(CompiledExpression.compile("(a or b) and c")).isNull();
+    assertThat(CompiledExpression.compile("list[0] != null")).isNull();
+    assertThat(CompiledExpression.compile("name.trim() != ''")).isNull();
+    assertThat(CompiledExpression.compile("count + 1 > 2")).isNull();
+    assertThat(CompiledExpression.compile("ratio > 0.5")).isNull();
+    assertThat(CompiledExpression.compile("@java.lang.Math@abs(count) > 1")).isNull();
+    assertThat(CompiledExpression.compile("name == 'a\\'b'")).isNull();
+    assertThat(CompiledExpression.compile("name ==")).isNull();
+    assertThat(CompiledExpression.compile("")).isNull();
+  }
+
+  @Test
+  void shouldEvaluateLikeOgnl() {
+    List<String> expressions = new ArrayList<>();
+    for (String path : PATHS) {
+      expressions.add(path);
+      expressions.add(path + ".size()");
+      expressions.add(path + ".length()");
+      expressions.add(path + ".isEmpty()");
+      for (String operator : OPERATORS) {
+        for (String literal : LITERALS) {
+          expressions.add(path + " " + operator + " " + literal);
+        }
+        expressions.add(path + ".size() " + operator + " 0");
+        expressions.add(path + " " + operator + " count");
+      }
+    }
+    for (String left : PATHS) {
+      for (String right : PATHS) {
+        expressions.add(left + " != null and " + right + " != ''");
+        expressions.add(left + " or " + right);
+        expressions.add(left + " && " + right + " || count > 1");
+      }
+    }
+    for (Object parameter : parameters()) {
+      Map<String, Object> bindings = new DynamicContext(configuration, parameter).getBindings();
+      for (String expression : expressions) {
+        CompiledExpression compiled = CompiledExpression.compile(expression);
+        assertThat(compiled).as(expression).isNotNull();
+        Object expected;
+        try {
+          expected = OgnlCache.getValue(expression, bindings);
+        } catch (RuntimeException e) {
+          expected = CompiledExpression.UNRESOLVED;
+        }
+        Object actual = compiled.getValue(bindings);
+        if (actual != CompiledExpression.UNRESOLVED) {
+          assertThat(actual).as(expression + " with " + parameter).isEqualTo(expected);
+        }
+      }
+    }
+  }
+
+  @Test
+  void shouldEvaluateCommonExpressionsWithoutOgnl() {
+    Bean bean = new Bean();
+    bean.setNested(new Bean());
+    Map<String, Object> bindings = new DynamicContext(configuration, bean).getBindings();
+    assertThat(CompiledExpression.compile("name != null and name != ''").getValue(bindings)).isEqualTo(true);
+    assertThat(CompiledExpression.compile("empty != null and empty != ''").getValue(bindings)).isEqualTo(false);
+    assertThat(CompiledExpression.compile("list != null and list.size() > 0").getValue(bindings)).isEqualTo(true);
+    assertThat(CompiledExpression.compile("emptyList.isEmpty() or id != null").getValue(bindings)).isEqualTo(true);
+    assertThat(CompiledExpression.compile("nested.name == 'abc'").getValue(bindings)).isEqualTo(false);
+    assertThat(CompiledExpression.compile("count gte 0 and flag").getValue(bindings)).isEqualTo(true);
+  }
+
+  @Test
+  void shouldReadPropertiesThroughConfiguredReflectorFactory() {
+    Set<Class<?>> types = ConcurrentHashMap.newKeySet();
+    Configuration configuration = new Configuration();
+    configuration.setReflectorFactory(new DefaultReflectorFactory() {
+      @Override
+      public Reflector findForClass(Class<?> type) {
+        types.add(type);
+        return super.findForClass(type);
+      }
+    });
+    Map<String, Object> map = new HashMap<>();
+    map.put("nested", new Bean());
+    Map<String, Object> bindings = new DynamicContext(configuration, map).getBindings();
+    assertThat(CompiledExpression.compile("nested.name != null").getValue(bindings)).isEqualTo(true);
+    assertThat(types).containsExactly(Bean.class);
+  }
+
+  @Test
+  void shouldFallBackToOgnl() {
+    ExpressionEvaluator evaluator = new ExpressionEvaluator();
+    Map<String, Object> bindings = new DynamicContext(configuration, new Bean()).getBindings();
+    String expression = "ratio > 1";
+    CompiledExpression compiled = CompiledExpression.compile(expression);
+    assertThat(compiled.getValue(bindings)).isSameAs(CompiledExpression.UNRESOLVED);
+    assertThat(evaluator.evaluateBoolean(compiled, expression, bindings))
+        .isEqualTo(evaluator.evaluateBoolean(expression, bindings));
+  }
+
+  private static List<Object> parameters() {
+    Bean bean = new Bean();
+    bean.setNested(new Bean());
+    Map<String, Object> map = new HashMap<>();
+    map.put("name", "abc");
+    map.put("empty", "");
+    map.put("count", 3);
+    map.put("id", 1L);
+    map.put("flag", Boolean.FALSE);
+    map.put("letter", 'a');
+    map.put("ratio", 0.0d);
+    map.put("list", Arrays.asList(1, 2));
+    map.put("emptyList", Collections.emptyList());
+    map.put("nested", new Bean());
+    map.put("map", Collections.singletonMap("key", "value"));
+    map.put("values", new int[] { 1 });
+    return Arrays.asList(bean, map, new HashMap<>(), null, 3, "abc");
+  }
+
+  public static class Bean {
+    private String name = "a";
+    private String empty = "";
+    private Integer count = 0;
+    private Long id;
+    private boolean flag = true;
+    private Character letter = 'a';
+    private Double ratio = 1.5d;
+    private List<Integer> list = Arrays.asList(1, 2, 3);
+    private List<Integer> emptyList = Collections.emptyList();
+    private Bean nested;
+    private Map<String, Object> map = new HashMap<>();
+    private int[] values = {};
+
+    public String getName() {
+      return name;
+    }
+
+    public String getEmpty() {
+      return empty;
+    }
+
+    public Integer getCount() {
+      return count;
+    }
+
+    public Long getId() {
+      return id;
+    }
+
+    public boolean isFlag() {
+      return flag;
+    }
+
+    public Character getLetter() {
+      return letter;
+    }
+
+    public Double getRatio() {
+      return ratio;
+    }
+
+    public List<Integer> getList() {
+      return list;
+    }
+
+    public List<Integer> getEmptyList() {
+      return emptyList;
+    }
+
+    public Bean getNested() {
+      return nested;
+    }
+
+    public void setNested(Bean nested) {
+      this.nested = nested;
+    }
+
+    public Map<String, Object> getMap() {
+      return map;
+    }
+
+    public int[] getValues() {
+      return values;
+    }
+
+    @Override
+    public String toString() {
+      return "Bean";
+    }
+  }
+
+}
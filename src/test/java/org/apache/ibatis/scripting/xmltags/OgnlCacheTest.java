@@ -1,5 +1,5 @@
 /*
- *    Copyright 2009-2023 the original author or authors.
+ *    Copyright 2009-2026 the original author or authors.
  *
  *    Licensed under the Apache License, Version 2.0 (the "License");
  *    you may not use this file except in compliance with the License.
@@ -17,6 +17,8 @@ package org.apache.ibatis.scripting.xmltags;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -27,6 +29,9 @@ import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.stream.IntStream;
 
+import ognl.OgnlContext;
+
+import org.apache.ibatis.session.Configuration;
 import org.junit.jupiter.api.Test;
 
 class OgnlCacheTest {
@@ -57,4 +62,21 @@ class OgnlCacheTest {
     context.put("d2", java.sql.Date.valueOf("2022-01-02"));
     assertEquals(-1, OgnlCache.getValue("d1.compareTo(d2)", context));
   }
+
+  @Test
+  void shouldReuseContextOfDynamicContextBindings() throws Exception {
+    Map<String, Object> parameter = new HashMap<>();
+    parameter.put("id", 1);
+    DynamicContext.ContextMap bindings = (DynamicContext.ContextMap) new DynamicContext(new Configuration(), parameter)
+        .getBindings();
+    assertEquals(1, OgnlCache.getValue("id", bindings));
+    OgnlContext context = bindings.ognlContext;
+    assertNotNull(context);
+    assertEquals(5, OgnlCache.getValue("#x = 5", bindings));
+    assertSame(context, bindings.ognlContext);
+    // variables do not survive an evaluation
+    assertNull(OgnlCache.getValue("#x", bindings));
+    assertEquals(2, OgnlCache.getValue("_parameter.id + 1", bindings));
+    assertSame(context, bindings.ognlContext);
+  }
 }
@@ -1,5 +1,5 @@
 /*
- *    Copyright 2009-2024 the original author or authors.
+ *    Copyright 2009-2026 the original author or authors.
  *
  *    Licensed under the Apache License, Version 2.0 (the "License");
  *    you may not use this file except in compliance with the License.
@@ -15,12 +15,16 @@
  */
 package org.apache.ibatis.scripting.xmltags;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.ibatis.parsing.GenericTokenParser;
 
 import org.junit.jupiter.api.Test;
 
@@ -65,4 +69,26 @@ class TextSqlNodeTest extends SqlNodeTest {
     assertTrue(sqlNode.isDynamic());
     verify(context).appendSql("select * from user where id = 1");
   }
+
+  @Test
+  void shouldSubstituteLikeGenericTokenParser() {
+    Map<String, Object> bindings = new HashMap<>();
+    bindings.put("id", 1);
+    bindings.put("table", "user_01");
+    when(context.getBindings()).thenReturn(bindings);
+    String[] texts = { "", "select 1", "${table}", "select * from ${table} where id = ${id}${id}",
+        "select '\\${table}'", "select * from ${table", "a}${id}" };
+    boolean[] dynamic = { false, false, true, true, false, false, true };
+    GenericTokenParser parser = new GenericTokenParser("${", "}",
+        content -> String.valueOf(bindings.get(content)));
+
+    for (int i = 0; i < texts.length; i++) {
+      TextSqlNode sqlNode = new TextSqlNode(texts[i]);
+      sqlNode.apply(context);
+
+      String expected = parser.parse(texts[i]);
+      verify(context).appendSql(expected);
+      assertEquals(dynamic[i], sqlNode.isDynamic(), texts[i]);
+    }
+  }
 }
@@ -0,0 +1,94 @@
+/*
+ *    Copyright 2009-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.apache.ibatis.scripting.xmltags;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.parsing.XNode;
+import org.apache.ibatis.parsing.XPathParser;
+import org.apache.ibatis.session.Configuration;
+import org.junit.jupiter.api.Test;
+
+class XMLScriptBuilderTest {
+
+  private static XNode script(String body) {
+    return new XPathParser("<script>" + body + "</script>").evalNode("/script");
+  }
+
+  private static String sql(Configuration configuration, String body, Object parameter) {
+    BoundSql boundSql = new XMLScriptBuilder(configuration, script(body)).parseScriptNode().getBoundSql(parameter);
+    return boundSql.getSql();
+  }
+
+  @Test
+  void shouldFoldAdjacentStaticText() {
+    XMLScriptBuilder builder = new XMLScriptBuilder(new Configuration(), null);
+    MixedSqlNode root = builder.parseDynamicTags(
+        script("select * from users<![CDATA[ where id < 10 ]]>and name = #{name}<if test='a'>and a = 1</if>"));
+
+    List<SqlNode> contents = root.getContents();
+    assertThat(contents).hasSize(2);
+    assertThat(((StaticTextSqlNode) contents.get(0)).getText())
+        .isEqualTo("select * from users  where id < 10  and name = #{name}");
+    assertThat(contents.get(1)).isInstanceOf(IfSqlNode.class);
+  }
+
+  @Test
+  void shouldReplaceStaticWhereWithItsText() {
+    XMLScriptBuilder builder = new XMLScriptBuilder(new Configuration(), null);
+    MixedSqlNode root = builder.parseDynamicTags(script("select * from users <where> and id = #{id} </where>"));
+
+    List<SqlNode> contents = root.getContents();
+    assertThat(contents).hasSize(1);
+    assertThat(((StaticTextSqlNode) contents.get(0)).getText()).isEqualTo("select * from users  WHERE  id = #{id}");
+  }
+
+  @Test
+  void shouldKeepEscapedPlaceholdersApart() {
+    XMLScriptBuilder builder = new XMLScriptBuilder(new Configuration(), null);
+    MixedSqlNode root = builder.parseDynamicTags(script("<trim>a\\<![CDATA[#{b}]]></trim>"));
+
+    assertThat(root.getContents()).hasSize(1);
+    assertThat(((StaticTextSqlNode) root.getContents().get(0)).getText()).isEqualTo("a\\#{b}");
+  }
+
+  @Test
+  void shouldProduceSameSqlAsBeforeFolding() {
+    String body = "select * from users <![CDATA[ where 1 = 1 ]]>\n"
+        + "  <if test='name != null'> and name = #{name} </if>\n"
+        + "  <trim prefix='and (' suffix=')' prefixOverrides='or'> or a = 1 <![CDATA[ or b < 2 ]]> </trim>\n"
+        + "  <foreach collection='ids' item='id' open='and id in (' close=')' separator=','>#{id}<![CDATA[ ]]></foreach>\n"
+        + "  <set> a = 1, <![CDATA[ b = 2, ]]> </set>";
+    Map<String, Object> parameter = new HashMap<>();
+    parameter.put("name", "mybatis");
+    parameter.put("ids", List.of(1, 2));
+
+    assertThat(sql(new Configuration(), body, parameter)).isEqualTo("select * from users   where 1 = 1  \n"
+        + "    and name = ?  \n" + "   and (  a = 1  or b < 2 ) \n" + "   and id in (  ?   , ?   ) \n"
+        + "   SET a = 1,  b = 2");
+
+    Configuration configuration = new Configuration();
+    configuration.setShrinkWhitespacesInSql(true);
+    assertThat(sql(configuration, body, parameter))
+        .isEqualTo("select * from users where 1 = 1 and name = ? and ( a = 1 or b < 2 ) and id in ( ? , ? ) SET a = 1, b = 2");
+  }
+
+}
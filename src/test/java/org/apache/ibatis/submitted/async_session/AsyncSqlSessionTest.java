@@ -0,0 +1,167 @@
+/*
+ *    Copyright 2009-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.apache.ibatis.submitted.async_session;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.ibatis.BaseDataTest;
+import org.apache.ibatis.exceptions.PersistenceException;
+import org.apache.ibatis.io.Resources;
+import org.apache.ibatis.session.AsyncSqlSession;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionException;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.apache.ibatis.session.SqlSessionFactoryBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class AsyncSqlSessionTest {
+
+  private SqlSessionFactory sqlSessionFactory;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    try (Reader reader = Resources.getResourceAsReader("org/apache/ibatis/submitted/async_session/mybatis-config.xml")) {
+      sqlSessionFactory = new SqlSessionFactoryBuilder().build(reader);
+    }
+    BaseDataTest.runScript(sqlSessionFactory.getConfiguration().getEnvironment().getDataSource(),
+        "org/apache/ibatis/submitted/async_session/CreateDB.sql");
+  }
+
+  @Test
+  void shouldSelectByStatementId() {
+    try (AsyncSqlSession session = sqlSessionFactory.openAsyncSession()) {
+      CompletableFuture<User> user = session.selectOneAsync(Mapper.class.getName() + ".getUser", 1);
+      CompletableFuture<List<User>> users = session.selectListAsync(Mapper.class.getName() + ".getUsersAsync");
+      assertThat(user.join().getName()).isEqualTo("User1");
+      assertThat(users.join()).extracting(User::getName).containsExactly("User1", "User2");
+    }
+  }
+
+  @Test
+  void shouldRunMapperMethodsReturningFutures() {
+    try (AsyncSqlSession session = sqlSessionFactory.openAsyncSession()) {
+      Mapper mapper = session.getMapper(Mapper.class);
+      User user = new User();
+      user.setId(3);
+      user.setName("User3");
+      CompletableFuture<Integer> inserted = mapper.insertUserAsync(user);
+      CompletableFuture<Integer> count = mapper.countUsersAsync();
+      CompletableFuture<List<User>> users = mapper.getUsersAsync().toCompletableFuture();
+      assertThat(inserted.join()).isEqualTo(1);
+      assertThat(count.join()).isEqualTo(3);
+      assertThat(users.join()).extracting(User::getName).containsExactly("User1", "User2", "User3");
+      // blocking methods of the mapper wait for their result
+      assertThat(mapper.getUser(3).getName()).isEqualTo("User3");
+      session.rollbackAsync(true).join();
+      assertThat(mapper.countUsersAsync().join()).isEqualTo(2);
+    }
+  }
+
+  @Test
+  void shouldSerializeConcurrentCalls() {
+    final int calls = 100;
+    try (AsyncSqlSession session = sqlSessionFactory.openAsyncSession()) {
+      Mapper mapper = session.getMapper(Mapper.class);
+      List<CompletableFuture<Integer>> futures = new ArrayList<>();
+      for (int i = 0; i < calls; i++) {
+        User user = new User();
+        user.setId(100 + i);
+        user.setName("User" + (100 + i));
+        futures.add(mapper.insertUserAsync(user));
+      }
+      CompletableFuture<Integer> count = mapper.countUsersAsync();
+      CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+      assertThat(count.join()).isEqualTo(calls + 2);
+      session.commitAsync().join();
+    }
+    try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+      assertThat(sqlSession.<Integer> selectOne(Mapper.class.getName() + ".countUsersAsync")).isEqualTo(calls + 2);
+    }
+  }
+
+  @Test
+  void shouldCallSessionFromDependentStages() throws Exception {
+    try (AsyncSqlSession session = sqlSessionFactory.openAsyncSession()) {
+      Mapper mapper = session.getMapper(Mapper.class);
+      CompletableFuture<String> blocking = mapper.getUserAsync(1).thenApply(u -> mapper.getUser(2).getName());
+      assertThat(blocking.get(5, TimeUnit.SECONDS)).isEqualTo("User2");
+      CompletableFuture<Integer> joined = mapper.getUserAsync(1).thenApply(u -> mapper.countUsersAsync().join());
+      assertThat(joined.get(5, TimeUnit.SECONDS)).isEqualTo(2);
+    }
+  }
+
+  @Test
+  void shouldCompleteExceptionallyWhenStatementFails() {
+    try (AsyncSqlSession session = sqlSessionFactory.openAsyncSession()) {
+      CompletableFuture<Integer> failed = session.insertAsync("unknownStatement", null);
+      assertThatThrownBy(failed::get).isInstanceOf(ExecutionException.class)
+          .hasCauseInstanceOf(PersistenceException.class);
+      // the next call is not affected
+      assertThat(session.<User> selectOneAsync(Mapper.class.getName() + ".getUser", 2).join().getName())
+          .isEqualTo("User2");
+    }
+  }
+
+  @Test
+  void shouldRejectCallsAfterClose() {
+    AsyncSqlSession session = sqlSessionFactory.openAsyncSession();
+    session.close();
+    assertThatThrownBy(session.selectOneAsync(Mapper.class.getName() + ".getUser", 1)::get)
+        .hasCauseInstanceOf(SqlSessionException.class);
+  }
+
+  @Test
+  void shouldRunOnGivenExecutor() {
+    final AtomicInteger tasks = new AtomicInteger();
+    final ExecutorService executor = Executors.newSingleThreadExecutor();
+    try (AsyncSqlSession session = sqlSessionFactory.openAsyncSession(command -> {
+      tasks.incrementAndGet();
+      executor.execute(command);
+    })) {
+      Mapper mapper = session.getMapper(Mapper.class);
+      assertThat(mapper.getUserAsync(1).join().getName()).isEqualTo("User1");
+      assertThat(mapper.insertUserWithoutCountAsync(new User()).join()).isNull();
+    } finally {
+      executor.shutdown();
+    }
+    // two statements and the close
+    assertThat(tasks.get()).isEqualTo(3);
+  }
+
+  @Test
+  void shouldReturnCompletedFutureFromBlockingSession() {
+    try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+      Mapper mapper = sqlSession.getMapper(Mapper.class);
+      CompletableFuture<User> user = mapper.getUserAsync(2);
+      assertThat(user).isDone();
+      assertThat(user.join().getName()).isEqualTo("User2");
+      assertThat(mapper.getUserAsync(3).join()).isNull();
+    }
+  }
+
+}
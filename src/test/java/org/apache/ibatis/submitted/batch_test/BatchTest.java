@@ -1,5 +1,5 @@
 /*
- *    Copyright 2009-2023 the original author or authors.
+ *    Copyright 2009-2026 the original author or authors.
  *
  *    Licensed under the Apache License, Version 2.0 (the "License");
  *    you may not use this file except in compliance with the License.
@@ -16,9 +16,12 @@
 package org.apache.ibatis.submitted.batch_test;
 
 import java.io.Reader;
+import java.util.List;
 
 import org.apache.ibatis.BaseDataTest;
+import org.apache.ibatis.executor.BatchResult;
 import org.apache.ibatis.io.Resources;
+import org.apache.ibatis.session.Configuration;
 import org.apache.ibatis.session.ExecutorType;
 import org.apache.ibatis.session.SqlSession;
 import org.apache.ibatis.session.SqlSessionFactory;
@@ -63,4 +66,124 @@ class BatchTest {
     }
   }
 
+  @Test
+  void shouldBatchInterleavedStatementsSeparatelyByDefault() {
+    try (SqlSession sqlSession = sqlSessionFactory.openSession(ExecutorType.BATCH, false)) {
+      insertDeptsWithUsers(sqlSession.getMapper(Mapper.class), 10);
+      List<BatchResult> results = sqlSession.flushStatements();
+      Assertions.assertEquals(6, results.size());
+      sqlSession.rollback();
+    }
+  }
+
+  @Test
+  void shouldGroupInterleavedStatements() {
+    sqlSessionFactory.getConfiguration().setBatchStatementGrouping(true);
+    try (SqlSession sqlSession = sqlSessionFactory.openSession(ExecutorType.BATCH, false)) {
+      Mapper mapper = sqlSession.getMapper(Mapper.class);
+      insertDeptsWithUsers(mapper, 20);
+      List<BatchResult> results = sqlSession.flushStatements();
+      Assertions.assertEquals(2, results.size());
+      // executed in the order the statements were first used
+      Assertions.assertEquals("org.apache.ibatis.submitted.batch_test.Mapper.insertDept",
+          results.get(0).getMappedStatement().getId());
+      Assertions.assertEquals(3, results.get(0).getUpdateCounts().length);
+      Assertions.assertEquals("org.apache.ibatis.submitted.batch_test.Mapper.insertUser",
+          results.get(1).getMappedStatement().getId());
+      Assertions.assertEquals(3, results.get(1).getUpdateCounts().length);
+      Assertions.assertEquals("Dept22", mapper.getUser(22).getDept().getName());
+      sqlSession.rollback();
+    } finally {
+      sqlSessionFactory.getConfiguration().setBatchStatementGrouping(false);
+    }
+  }
+
+  @Test
+  void shouldExecuteBatchesWhenStatementRowLimitIsReached() {
+    Configuration configuration = sqlSessionFactory.getConfiguration();
+    configuration.setBatchMaxStatementRows(2);
+    try (SqlSession sqlSession = sqlSessionFactory.openSession(ExecutorType.BATCH, false)) {
+      Mapper mapper = sqlSession.getMapper(Mapper.class);
+      for (int id = 30; id < 35; id++) {
+        Dept dept = new Dept();
+        dept.setId(id);
+        dept.setName("Dept" + id);
+        mapper.insertDept(dept);
+      }
+      List<BatchResult> results = sqlSession.flushStatements();
+      Assertions.assertEquals(3, results.size());
+      Assertions.assertEquals(2, results.get(0).getUpdateCounts().length);
+      // batches executed automatically only keep their update counts
+      Assertions.assertTrue(results.get(0).getParameterObjects().isEmpty());
+      Assertions.assertEquals(2, results.get(1).getUpdateCounts().length);
+      Assertions.assertEquals(1, results.get(2).getUpdateCounts().length);
+      Assertions.assertEquals(1, results.get(2).getParameterObjects().size());
+      sqlSession.rollback();
+    } finally {
+      configuration.setBatchMaxStatementRows(null);
+    }
+  }
+
+  @Test
+  void shouldExecuteBatchesWhenRowLimitIsReached() {
+    Configuration configuration = sqlSessionFactory.getConfiguration();
+    configuration.setBatchStatementGrouping(true);
+    configuration.setBatchMaxRows(4);
+    try (SqlSession sqlSession = sqlSessionFactory.openSession(ExecutorType.BATCH, false)) {
+      insertDeptsWithUsers(sqlSession.getMapper(Mapper.class), 40);
+      List<BatchResult> results = sqlSession.flushStatements();
+      Assertions.assertEquals(4, results.size());
+      Assertions.assertEquals(2, results.get(0).getUpdateCounts().length);
+      Assertions.assertEquals(2, results.get(1).getUpdateCounts().length);
+      Assertions.assertEquals(1, results.get(2).getUpdateCounts().length);
+      Assertions.assertEquals(1, results.get(3).getUpdateCounts().length);
+      sqlSession.rollback();
+    } finally {
+      configuration.setBatchStatementGrouping(false);
+      configuration.setBatchMaxRows(null);
+    }
+  }
+
+  @Test
+  void shouldExecuteBatchesWhenByteLimitIsReachedAndReleaseParameters() {
+    Configuration configuration = sqlSessionFactory.getConfiguration();
+    // 8 bytes for the id and 12 for the name of each dept
+    configuration.setBatchMaxBytes(40);
+    configuration.setBatchReleaseParameterObjects(true);
+    try (SqlSession sqlSession = sqlSessionFactory.openSession(ExecutorType.BATCH, false)) {
+      Mapper mapper = sqlSession.getMapper(Mapper.class);
+      for (int id = 50; id < 55; id++) {
+        Dept dept = new Dept();
+        dept.setId(id);
+        dept.setName("Dept" + id);
+        mapper.insertDept(dept);
+      }
+      List<BatchResult> results = sqlSession.flushStatements();
+      Assertions.assertEquals(3, results.size());
+      Assertions.assertEquals(2, results.get(0).getUpdateCounts().length);
+      Assertions.assertTrue(results.get(0).getParameterObjects().isEmpty());
+      Assertions.assertEquals(1, results.get(2).getUpdateCounts().length);
+      Assertions.assertTrue(results.get(2).getParameterObjects().isEmpty());
+      Assertions.assertEquals("Dept54", mapper.getDept(54).getName());
+      sqlSession.rollback();
+    } finally {
+      configuration.setBatchMaxBytes(null);
+      configuration.setBatchReleaseParameterObjects(false);
+    }
+  }
+
+  private static void insertDeptsWithUsers(Mapper mapper, int firstId) {
+    for (int id = firstId; id < firstId + 3; id++) {
+      Dept dept = new Dept();
+      dept.setId(id);
+      dept.setName("Dept" + id);
+      mapper.insertDept(dept);
+      User user = new User();
+      user.setId(id);
+      user.setName("User" + id);
+      user.setDept(dept);
+      mapper.insertUser(user);
+    }
+  }
+
 }
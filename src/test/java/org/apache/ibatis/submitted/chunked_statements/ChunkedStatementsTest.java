@@ -0,0 +1,138 @@
+/*
+ *    Copyright 2009-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.apache.ibatis.submitted.chunked_statements;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.apache.ibatis.BaseDataTest;
+import org.apache.ibatis.exceptions.PersistenceException;
+import org.apache.ibatis.executor.BatchResult;
+import org.apache.ibatis.io.Resources;
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.RowBounds;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.apache.ibatis.session.SqlSessionFactoryBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ChunkedStatementsTest {
+
+  private SqlSessionFactory sqlSessionFactory;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    try (Reader reader = Resources
+        .getResourceAsReader("org/apache/ibatis/submitted/chunked_statements/mybatis-config.xml")) {
+      sqlSessionFactory = new SqlSessionFactoryBuilder().build(reader);
+    }
+    BaseDataTest.runScript(sqlSessionFactory.getConfiguration().getEnvironment().getDataSource(),
+        "org/apache/ibatis/submitted/chunked_statements/CreateDB.sql");
+    ExecutionCounter.COUNT.set(0);
+  }
+
+  @Test
+  void shouldInsertInChunksAndAssignGeneratedKeys() {
+    try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+      Mapper mapper = sqlSession.getMapper(Mapper.class);
+      List<User> users = users(25);
+      assertThat(mapper.insertUsers(users)).isEqualTo(25);
+      assertThat(ExecutionCounter.COUNT.get()).isEqualTo(3);
+      assertThat(users).extracting(User::getId).doesNotContainNull().doesNotHaveDuplicates();
+    }
+  }
+
+  @Test
+  void shouldNotSplitSmallCollections() {
+    try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+      Mapper mapper = sqlSession.getMapper(Mapper.class);
+      assertThat(mapper.insertUsers(users(10))).isEqualTo(10);
+      assertThat(ExecutionCounter.COUNT.get()).isEqualTo(1);
+    }
+  }
+
+  @Test
+  void shouldBatchChunks() {
+    try (SqlSession sqlSession = sqlSessionFactory.openSession(ExecutorType.BATCH)) {
+      Mapper mapper = sqlSession.getMapper(Mapper.class);
+      List<String> names = IntStream.rangeClosed(1, 30).mapToObj(i -> "User" + i).collect(Collectors.toList());
+      mapper.insertNames(names);
+      List<BatchResult> results = sqlSession.flushStatements();
+      assertThat(results).hasSize(1);
+      assertThat(results.get(0).getParameterObjects()).hasSize(3);
+      assertThat(Arrays.stream(results.get(0).getUpdateCounts()).sum()).isEqualTo(30);
+    }
+  }
+
+  @Test
+  void shouldConcatenateSelectedChunks() {
+    try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+      Mapper mapper = sqlSession.getMapper(Mapper.class);
+      List<User> users = users(25);
+      mapper.insertUsers(users);
+      ExecutionCounter.COUNT.set(0);
+      List<Integer> ids = users.stream().map(User::getId).collect(Collectors.toList());
+      List<User> selected = mapper.selectUsers("User%", ids);
+      assertThat(ExecutionCounter.COUNT.get()).isEqualTo(3);
+      assertThat(selected).extracting(User::getId).containsExactlyElementsOf(ids);
+    }
+  }
+
+  @Test
+  void shouldSplitArrays() {
+    try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+      Mapper mapper = sqlSession.getMapper(Mapper.class);
+      List<User> users = users(10);
+      mapper.insertUsers(users);
+      ExecutionCounter.COUNT.set(0);
+      Integer[] ids = users.stream().map(User::getId).toArray(Integer[]::new);
+      assertThat(mapper.deleteUsers(ids)).isEqualTo(10);
+      assertThat(ExecutionCounter.COUNT.get()).isEqualTo(3);
+    }
+  }
+
+  @Test
+  void shouldRejectRowBounds() {
+    try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+      List<Integer> ids = IntStream.rangeClosed(1, 11).boxed().collect(Collectors.toList());
+      Map<String, Object> parameter = new HashMap<>();
+      parameter.put("prefix", "User%");
+      parameter.put("ids", ids);
+      assertThatThrownBy(() -> sqlSession.selectList(
+          "org.apache.ibatis.submitted.chunked_statements.Mapper.selectUsers", parameter, new RowBounds(0, 5)))
+          .isInstanceOf(PersistenceException.class).hasMessageContaining("cannot be combined with RowBounds");
+    }
+  }
+
+  private static List<User> users(int count) {
+    List<User> users = new ArrayList<>();
+    for (int i = 1; i <= count; i++) {
+      users.add(new User("User" + i));
+    }
+    return users;
+  }
+
+}
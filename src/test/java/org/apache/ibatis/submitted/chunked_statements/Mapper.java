@@ -0,0 +1,37 @@
+/*
+ *    Copyright 2009-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.apache.ibatis.submitted.chunked_statements;
+
+import java.util.List;
+
+import org.apache.ibatis.annotations.Delete;
+import org.apache.ibatis.annotations.Options;
+import org.apache.ibatis.annotations.Param;
+
+public interface Mapper {
+
+  int insertUsers(List<User> users);
+
+  int insertNames(List<String> names);
+
+  List<User> selectUsers(@Param("prefix") String prefix, @Param("ids") List<Integer> ids);
+
+  @Delete({ "<script>", "delete from users where id in",
+      "<foreach collection='array' item='id' open='(' separator=',' close=')'>#{id}</foreach>", "</script>" })
+  @Options(chunkSize = 4)
+  int deleteUsers(Integer... ids);
+
+}
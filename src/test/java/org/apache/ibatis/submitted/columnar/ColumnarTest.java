@@ -0,0 +1,114 @@
+/*
+ *    Copyright 2009-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.apache.ibatis.submitted.columnar;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.Reader;
+import java.util.Collections;
+
+import org.apache.ibatis.BaseDataTest;
+import org.apache.ibatis.executor.ExecutorException;
+import org.apache.ibatis.executor.result.ColumnarResult;
+import org.apache.ibatis.executor.result.ColumnarResult.ColumnType;
+import org.apache.ibatis.io.Resources;
+import org.apache.ibatis.session.RowBounds;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.apache.ibatis.session.SqlSessionFactoryBuilder;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+class ColumnarTest {
+
+  private static final String SELECT_MEASUREMENTS = "org.apache.ibatis.submitted.columnar.Mapper.selectMeasurements";
+
+  private static SqlSessionFactory sqlSessionFactory;
+
+  @BeforeAll
+  static void setUp() throws Exception {
+    try (Reader reader = Resources.getResourceAsReader("org/apache/ibatis/submitted/columnar/mybatis-config.xml")) {
+      sqlSessionFactory = new SqlSessionFactoryBuilder().build(reader);
+    }
+    BaseDataTest.runScript(sqlSessionFactory.getConfiguration().getEnvironment().getDataSource(),
+        "org/apache/ibatis/submitted/columnar/CreateDB.sql");
+  }
+
+  @Test
+  void shouldStoreNumericColumnsInPrimitiveArrays() {
+    try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+      ColumnarResult result = sqlSession.selectColumns(SELECT_MEASUREMENTS);
+      assertEquals(4, result.getRowCount());
+      assertThat(result.getColumnNames()).containsExactly("ID", "SENSOR", "READING", "TEMPERATURE", "QUALITY");
+      assertEquals(ColumnType.INT, result.getColumnType("id"));
+      assertEquals(ColumnType.OBJECT, result.getColumnType("sensor"));
+      assertEquals(ColumnType.LONG, result.getColumnType("reading"));
+      assertEquals(ColumnType.DOUBLE, result.getColumnType("temperature"));
+      assertEquals(ColumnType.INT, result.getColumnType("quality"));
+
+      assertThat(result.getInts("id")).containsExactly(1, 2, 3, 4);
+      assertThat(result.getObjects("sensor")).containsExactly("alpha", "beta", null, "delta");
+      assertThat(result.getLongs("reading")).containsExactly(1000000000000L, 0L, 3000000000000L, 4000000000000L);
+      assertThat(result.getDoubles("temperature")).containsExactly(21.5, 19.25, 0.0, -2.0);
+      assertThat(result.getInts("quality")).containsExactly(3, 0, 1, 2);
+    }
+  }
+
+  @Test
+  void shouldTrackNullsPerColumn() {
+    try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+      ColumnarResult result = sqlSession.selectColumns(SELECT_MEASUREMENTS);
+      assertThat(result.getNulls("id").isEmpty()).isTrue();
+      assertThat(result.getNulls("sensor").stream()).containsExactly(2);
+      assertThat(result.getNulls("reading").stream()).containsExactly(1);
+      assertThat(result.isNull("temperature", 2)).isTrue();
+      assertThat(result.isNull("temperature", 3)).isFalse();
+      assertThat(result.isNull("quality", 1)).isTrue();
+    }
+  }
+
+  @Test
+  void shouldApplyParameterAndRowBounds() {
+    try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+      ColumnarResult result = sqlSession.selectColumns(SELECT_MEASUREMENTS, Collections.singletonMap("minId", 2),
+          new RowBounds(1, 2));
+      assertThat(result.getInts("id")).containsExactly(3, 4);
+      assertThat(result.getNulls("sensor").stream()).containsExactly(0);
+    }
+  }
+
+  @Test
+  void shouldReturnEmptyColumnsWhenNoRowMatches() {
+    try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+      ColumnarResult result = sqlSession.selectColumns(SELECT_MEASUREMENTS, Collections.singletonMap("minId", 10));
+      assertEquals(0, result.getRowCount());
+      assertThat(result.getInts("id")).isEmpty();
+      assertThat(result.getObjects("sensor")).isEmpty();
+    }
+  }
+
+  @Test
+  void shouldRejectUnknownColumnAndTypeMismatch() {
+    try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+      ColumnarResult result = sqlSession.selectColumns(SELECT_MEASUREMENTS);
+      assertThrows(ExecutorException.class, () -> result.getInts("missing"));
+      assertThrows(ExecutorException.class, () -> result.getLongs("id"));
+    }
+  }
+
+}
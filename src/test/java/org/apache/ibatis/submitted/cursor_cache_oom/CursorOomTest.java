@@ -1,5 +1,5 @@
 /*
- *    Copyright 2009-2023 the original author or authors.
+ *    Copyright 2009-2026 the original author or authors.
  *
  *    Licensed under the Apache License, Version 2.0 (the "License");
  *    you may not use this file except in compliance with the License.
@@ -79,16 +79,16 @@ class CursorOomTest {
     try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
       Mapper mapper = sqlSession.getMapper(Mapper.class);
       try (Cursor<User> users = mapper.fetchUsers()) {
+        Map nestedResultObjects = getNestedResultObjects(users);
         for (User user : users) {
           consumeUser(user);
+          // only the objects of the user being mapped are kept
+          Assertions.assertFalse(nestedResultObjects.isEmpty());
+          Assertions.assertTrue(nestedResultObjects.size() <= 2);
         }
-        Map nestedResultObjects = getNestedResultObjects(users);
-
-        Assertions.assertFalse(nestedResultObjects.isEmpty());
 
-        // does not pass now
-        // will be great, if cursor will use constant memory instead of linear one
-        // Assertions.assertTrue(nestedResultObjects.size() <= 2);
+        // a consumed cursor releases everything
+        Assertions.assertTrue(nestedResultObjects.isEmpty());
       }
 
       List<Cursor<?>> cursorList = getCursors(sqlSession);
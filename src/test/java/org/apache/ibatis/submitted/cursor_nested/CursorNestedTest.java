@@ -1,5 +1,5 @@
 /*
- *    Copyright 2009-2023 the original author or authors.
+ *    Copyright 2009-2026 the original author or authors.
  *
  *    Licensed under the Apache License, Version 2.0 (the "License");
  *    you may not use this file except in compliance with the License.
@@ -89,6 +89,39 @@ class CursorNestedTest {
     Assertions.assertFalse(usersCursor.isOpen());
   }
 
+  @Test
+  void shouldStreamCompleteUsersWhenCursorResultOrdered() {
+    sqlSessionFactory.getConfiguration().setCursorResultOrdered(true);
+    try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+      Mapper mapper = sqlSession.getMapper(Mapper.class);
+      Cursor<User> usersCursor = mapper.getAllUsersNotOrdered();
+      Iterator<User> iterator = usersCursor.iterator();
+
+      // each user is complete when it is returned
+      User user = iterator.next();
+      Assertions.assertEquals("User1", user.getName());
+      Assertions.assertEquals(2, user.getGroups().size());
+      Assertions.assertEquals(3, user.getRoles().size());
+
+      user = iterator.next();
+      Assertions.assertEquals(1, user.getGroups().size());
+      Assertions.assertEquals(3, user.getRoles().size());
+
+      user = iterator.next();
+      Assertions.assertEquals(3, user.getGroups().size());
+      Assertions.assertEquals(1, user.getRoles().size());
+
+      user = iterator.next();
+      Assertions.assertEquals(2, user.getGroups().size());
+      Assertions.assertEquals(2, user.getRoles().size());
+
+      Assertions.assertFalse(iterator.hasNext());
+      Assertions.assertTrue(usersCursor.isConsumed());
+    } finally {
+      sqlSessionFactory.getConfiguration().setCursorResultOrdered(false);
+    }
+  }
+
   @Test
   void testCursorWithRowBound() {
     try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
@@ -0,0 +1,145 @@
+/*
+ *    Copyright 2009-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.apache.ibatis.submitted.parallel_mapping;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.ibatis.BaseDataTest;
+import org.apache.ibatis.io.Resources;
+import org.apache.ibatis.session.RowBounds;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.apache.ibatis.session.SqlSessionFactoryBuilder;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+class ParallelMappingTest {
+
+  private static final int ROWS = 2000;
+
+  private static SqlSessionFactory sqlSessionFactory;
+
+  @BeforeAll
+  static void setUp() throws Exception {
+    try (Reader reader = Resources
+        .getResourceAsReader("org/apache/ibatis/submitted/parallel_mapping/mybatis-config.xml")) {
+      sqlSessionFactory = new SqlSessionFactoryBuilder().build(reader);
+    }
+    BaseDataTest.runScript(sqlSessionFactory.getConfiguration().getEnvironment().getDataSource(),
+        "org/apache/ibatis/submitted/parallel_mapping/CreateDB.sql");
+    try (SqlSession sqlSession = sqlSessionFactory.openSession(); Connection conn = sqlSession.getConnection();
+        PreparedStatement ps = conn.prepareStatement("insert into items values (?, ?, ?, ?, ?, ?, ?, ?)")) {
+      for (int i = 1; i <= ROWS; i++) {
+        ps.setInt(1, i);
+        ps.setString(2, i % 7 == 0 ? null : "Item" + i);
+        ps.setString(3, i % 3 == 0 ? "special" : "regular");
+        ps.setBigDecimal(4, i % 5 == 0 ? null : BigDecimal.valueOf(i, 2));
+        ps.setLong(5, i * 1000L);
+        ps.setBoolean(6, i % 2 == 0);
+        ps.setTimestamp(7, Timestamp.valueOf(LocalDateTime.of(2020, 1, 1, 0, 0).plusMinutes(i)));
+        ps.setDate(8, Date.valueOf(LocalDate.of(2020, 1, 1).plusDays(i)));
+        ps.addBatch();
+      }
+      ps.executeBatch();
+      conn.commit();
+    }
+  }
+
+  @Test
+  void shouldMapSameResultsInOrder() {
+    try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+      Mapper mapper = sqlSession.getMapper(Mapper.class);
+      assertThat(sqlSession.getConfiguration().getMappedStatement("selectItemsInParallel").isParallelMapping())
+          .isTrue();
+      List<Item> expected = mapper.selectItems();
+      List<Item> items = mapper.selectItemsInParallel();
+      assertThat(items).hasSize(ROWS).isEqualTo(expected);
+      assertThat(items.get(2)).isInstanceOf(SpecialItem.class);
+      assertThat(items.get(3)).isNotInstanceOf(SpecialItem.class);
+      assertThat(items.get(6).getName()).isNull();
+      assertThat(items.get(4).getPrice()).isNull();
+      assertThat(items.get(0).getCreated()).isEqualTo(LocalDateTime.of(2020, 1, 1, 0, 1));
+      assertThat(items.get(0).getValidFrom()).isEqualTo(LocalDate.of(2020, 1, 2));
+    }
+  }
+
+  @Test
+  void shouldApplyRowBounds() {
+    try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+      Mapper mapper = sqlSession.getMapper(Mapper.class);
+      List<Item> items = mapper.selectItemsInParallel(new RowBounds(300, 700));
+      assertThat(items).hasSize(700);
+      assertThat(items.get(0).getId()).isEqualTo(301);
+      assertThat(items.get(699).getId()).isEqualTo(1000);
+    }
+  }
+
+  @Test
+  void shouldStopWhenResultHandlerStops() {
+    try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+      Mapper mapper = sqlSession.getMapper(Mapper.class);
+      List<Integer> ids = new ArrayList<>();
+      mapper.selectItemsInParallel(context -> {
+        ids.add(context.getResultObject().getId());
+        if (ids.size() == 10) {
+          context.stop();
+        }
+      });
+      assertThat(ids).hasSize(10).startsWith(1, 2, 3).endsWith(10);
+    }
+  }
+
+  @Test
+  void shouldRunTypeHandlersOnCallingThread() {
+    try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+      Mapper mapper = sqlSession.getMapper(Mapper.class);
+      NameTypeHandler.threads.clear();
+      List<Item> items = mapper.selectNamedItemsInParallel();
+      assertThat(items).hasSize(ROWS);
+      assertThat(items.get(0).getName()).isEqualTo("Item1/regular");
+      assertThat(items.get(2).getName()).isEqualTo("Item3/special");
+      assertThat(items.get(6).getName()).isNull();
+      assertThat(NameTypeHandler.threads).containsExactly(Thread.currentThread());
+    }
+  }
+
+  @Test
+  void shouldMapMapsWithOptions() {
+    try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+      Mapper mapper = sqlSession.getMapper(Mapper.class);
+      List<Map<String, Object>> maps = mapper.selectMapsInParallel();
+      assertThat(maps).hasSize(ROWS);
+      Map<String, Object> first = maps.get(0);
+      assertThat(first.get("ID")).isEqualTo(1);
+      assertThat(first.get("NAME")).isEqualTo("Item1");
+      assertThat(first.get("QUANTITY")).isEqualTo(1000L);
+      assertThat(maps.get(ROWS - 1).get("ID")).isEqualTo(ROWS);
+    }
+  }
+
+}
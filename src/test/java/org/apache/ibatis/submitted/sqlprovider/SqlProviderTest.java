@@ -1,5 +1,5 @@
 /*
- *    Copyright 2009-2023 the original author or authors.
+ *    Copyright 2009-2026 the original author or authors.
  *
  *    Licensed under the Apache License, Version 2.0 (the "License");
  *    you may not use this file except in compliance with the License.
@@ -28,6 +28,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.ibatis.BaseDataTest;
 import org.apache.ibatis.annotations.DeleteProvider;
@@ -38,6 +39,7 @@ import org.apache.ibatis.annotations.UpdateProvider;
 import org.apache.ibatis.binding.MapperMethod;
 import org.apache.ibatis.builder.BuilderException;
 import org.apache.ibatis.builder.annotation.ProviderContext;
+import org.apache.ibatis.builder.annotation.ProviderSqlCacheKeyResolver;
 import org.apache.ibatis.builder.annotation.ProviderSqlSource;
 import org.apache.ibatis.io.Resources;
 import org.apache.ibatis.session.Configuration;
@@ -694,6 +696,85 @@ class SqlProviderTest {
     }
   }
 
+  @Test
+  void shouldReuseProviderInstance() throws NoSuchMethodException {
+    Class<?> mapperType = CachedSqlProviderMapper.class;
+    Method mapperMethod = mapperType.getMethod("select", int.class);
+    ProviderSqlSource sqlSource = new ProviderSqlSource(new Configuration(),
+        mapperMethod.getAnnotation(SelectProvider.class), mapperType, mapperMethod);
+    CachedSqlProviderMapper.SqlProvider.instances.set(0);
+
+    assertEquals("select name from foo where id = ?", sqlSource.getBoundSql(1).getSql());
+    assertEquals("select name from foo where id = ?", sqlSource.getBoundSql(2).getSql());
+    assertEquals(1, CachedSqlProviderMapper.SqlProvider.instances.get());
+  }
+
+  @Test
+  void shouldReuseSqlSourceOfSameCacheKey() throws NoSuchMethodException {
+    Class<?> mapperType = CachedSqlProviderMapper.class;
+    Method mapperMethod = mapperType.getMethod("selectBy", String.class, Object.class);
+    ProviderSqlSource sqlSource = new ProviderSqlSource(new Configuration(),
+        mapperMethod.getAnnotation(SelectProvider.class), mapperType, mapperMethod);
+    CachedSqlProviderMapper.SqlProvider.invocations.set(0);
+
+    assertEquals("select name from foo where id = ?", sqlSource.getBoundSql(params("id", 1)).getSql());
+    assertEquals("select name from foo where id = ?", sqlSource.getBoundSql(params("id", 2)).getSql());
+    assertEquals(1, CachedSqlProviderMapper.SqlProvider.invocations.get());
+
+    assertEquals("select name from foo where name = ?", sqlSource.getBoundSql(params("name", "Taro")).getSql());
+    assertEquals(2, CachedSqlProviderMapper.SqlProvider.invocations.get());
+
+    // a null key does not reuse the SQL
+    assertEquals("select name from foo", sqlSource.getBoundSql(params(null, null)).getSql());
+    assertEquals("select name from foo", sqlSource.getBoundSql(params(null, null)).getSql());
+    assertEquals(4, CachedSqlProviderMapper.SqlProvider.invocations.get());
+  }
+
+  private static Map<String, Object> params(String column, Object value) {
+    Map<String, Object> params = new MapperMethod.ParamMap<>();
+    params.put("column", column);
+    params.put("value", value);
+    return params;
+  }
+
+  public interface CachedSqlProviderMapper {
+
+    @SelectProvider(type = SqlProvider.class, method = "select")
+    String select(int id);
+
+    @SelectProvider(type = SqlProvider.class, method = "selectBy")
+    String selectBy(@Param("column") String column, @Param("value") Object value);
+
+    class SqlProvider implements ProviderSqlCacheKeyResolver {
+
+      static final AtomicInteger instances = new AtomicInteger();
+      static final AtomicInteger invocations = new AtomicInteger();
+
+      public SqlProvider() {
+        instances.incrementAndGet();
+      }
+
+      public String select() {
+        return "select name from foo where id = #{id}";
+      }
+
+      public String selectBy(@Param("column") String column) {
+        invocations.incrementAndGet();
+        return column == null ? "select name from foo" : "select name from foo where " + column + " = #{value}";
+      }
+
+      @Override
+      public Object resolveCacheKey(ProviderContext context, Object parameterObject) {
+        if ("select".equals(context.getMapperMethod().getName())) {
+          return null;
+        }
+        return ((Map<?, ?>) parameterObject).get("column");
+      }
+
+    }
+
+  }
+
   public interface DefaultSqlProviderMapper {
 
     @SelectProvider
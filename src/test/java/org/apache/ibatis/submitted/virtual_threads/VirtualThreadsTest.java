@@ -0,0 +1,144 @@
+/*
+ *    Copyright 2009-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.apache.ibatis.submitted.virtual_threads;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingFile;
+
+import org.apache.ibatis.BaseDataTest;
+import org.apache.ibatis.io.Resources;
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.apache.ibatis.session.SqlSessionFactoryBuilder;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+/**
+ * Runs the executors on virtual threads and checks with the {@code jdk.VirtualThreadPinned} event that no virtual
+ * thread blocks while pinned to its carrier by a monitor held in MyBatis code.
+ */
+@EnabledForJreRange(min = JRE.JAVA_21)
+class VirtualThreadsTest {
+
+  private static final int TASKS = 200;
+  private static final AtomicInteger nextId = new AtomicInteger(1000);
+
+  private static SqlSessionFactory sqlSessionFactory;
+
+  @BeforeAll
+  static void setUp() throws Exception {
+    try (Reader reader = Resources
+        .getResourceAsReader("org/apache/ibatis/submitted/virtual_threads/mybatis-config.xml")) {
+      sqlSessionFactory = new SqlSessionFactoryBuilder().build(reader);
+    }
+    BaseDataTest.runScript(sqlSessionFactory.getConfiguration().getEnvironment().getDataSource(),
+        "org/apache/ibatis/submitted/virtual_threads/CreateDB.sql");
+  }
+
+  @ParameterizedTest
+  @EnumSource(ExecutorType.class)
+  void shouldNotPinVirtualThreads(ExecutorType executorType) throws Exception {
+    final List<RecordedEvent> events;
+    try (Recording recording = new Recording()) {
+      recording.enable("jdk.VirtualThreadPinned").withThreshold(Duration.ZERO).withStackTrace();
+      recording.start();
+      runOnVirtualThreads(executorType);
+      recording.stop();
+      Path file = Files.createTempFile("virtual-threads", ".jfr");
+      try {
+        recording.dump(file);
+        events = RecordingFile.readAllEvents(file);
+      } finally {
+        Files.delete(file);
+      }
+    }
+    List<String> pinnedIn = events.stream().filter(e -> "jdk.VirtualThreadPinned".equals(e.getEventType().getName()))
+        .map(VirtualThreadsTest::blockingFrame).filter(this::isMyBatisFrame).collect(Collectors.toList());
+    assertThat(pinnedIn).isEmpty();
+  }
+
+  private static void runOnVirtualThreads(ExecutorType executorType) throws Exception {
+    // Java 21+
+    ExecutorService executor = (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor")
+        .invoke(null);
+    try {
+      List<Future<?>> futures = new ArrayList<>();
+      for (int i = 0; i < TASKS; i++) {
+        futures.add(executor.submit(() -> {
+          try (SqlSession sqlSession = sqlSessionFactory.openSession(executorType)) {
+            Mapper mapper = sqlSession.getMapper(Mapper.class);
+            assertThat(mapper.getInitialUsers()).hasSize(2);
+            assertThat(mapper.getUser(1).getName()).isEqualTo("User1");
+            User user = new User();
+            user.setId(nextId.incrementAndGet());
+            user.setName("User" + user.getId());
+            mapper.insertUser(user);
+            sqlSession.commit();
+          }
+          return null;
+        }));
+      }
+      for (Future<?> future : futures) {
+        future.get();
+      }
+    } finally {
+      executor.shutdown();
+      assertThat(executor.awaitTermination(1, TimeUnit.MINUTES)).isTrue();
+    }
+  }
+
+  /**
+   * Returns the innermost frame outside of the JDK, which is the code that blocked the pinned thread.
+   */
+  private static String blockingFrame(RecordedEvent event) {
+    if (event.getStackTrace() == null) {
+      return "";
+    }
+    for (RecordedFrame frame : event.getStackTrace().getFrames()) {
+      String type = frame.getMethod().getType().getName();
+      if (!type.startsWith("java.") && !type.startsWith("jdk.") && !type.startsWith("sun.")) {
+        return type + "." + frame.getMethod().getName();
+      }
+    }
+    return "";
+  }
+
+  private boolean isMyBatisFrame(String frame) {
+    return frame.startsWith("org.apache.ibatis.") && !frame.startsWith(getClass().getPackage().getName());
+  }
+
+}
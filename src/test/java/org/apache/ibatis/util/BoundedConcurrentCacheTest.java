@@ -0,0 +1,71 @@
+/*
+ *    Copyright 2009-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.apache.ibatis.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+class BoundedConcurrentCacheTest {
+
+  @Test
+  void shouldComputeValueOnce() {
+    BoundedConcurrentCache<String, String> cache = new BoundedConcurrentCache<>(10);
+    AtomicInteger computations = new AtomicInteger();
+    assertThat(cache.computeIfAbsent("a", k -> k + computations.incrementAndGet())).isEqualTo("a1");
+    assertThat(cache.computeIfAbsent("a", k -> k + computations.incrementAndGet())).isEqualTo("a1");
+    assertThat(computations).hasValue(1);
+  }
+
+  @Test
+  void shouldNotGrowBeyondMaxSize() {
+    BoundedConcurrentCache<Integer, Integer> cache = new BoundedConcurrentCache<>(100);
+    for (int i = 0; i < 10_000; i++) {
+      cache.computeIfAbsent(i, k -> k);
+      assertThat(cache.size()).isLessThanOrEqualTo(100);
+    }
+  }
+
+  @Test
+  void shouldKeepUsedEntriesAndCacheLaterKeys() {
+    BoundedConcurrentCache<Integer, Integer> cache = new BoundedConcurrentCache<>(100);
+    // entries of the cold start that are not used again
+    for (int i = 0; i < 100; i++) {
+      cache.put(-1 - i, i);
+    }
+    for (int i = 0; i < 10_000; i++) {
+      // a hot key is read between one-off keys
+      cache.computeIfAbsent(1, k -> k);
+      cache.computeIfAbsent(1000 + i, k -> k);
+    }
+    assertThat(cache.get(1)).isEqualTo(1);
+    assertThat(cache.get(-1)).isNull();
+    // a key computed after the cache filled up is stored
+    cache.computeIfAbsent(5, k -> k);
+    assertThat(cache.get(5)).isEqualTo(5);
+  }
+
+  @Test
+  void shouldNotStoreWithZeroMaxSize() {
+    BoundedConcurrentCache<String, String> cache = new BoundedConcurrentCache<>(0);
+    assertThat(cache.computeIfAbsent("a", k -> k)).isEqualTo("a");
+    cache.put("b", "b");
+    assertThat(cache.size()).isZero();
+  }
+
+}
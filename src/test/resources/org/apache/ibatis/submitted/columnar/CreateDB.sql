@@ -0,0 +1,30 @@
+--
+--    Copyright 2009-2026 the original author or authors.
+--
+--    Licensed under the Apache License, Version 2.0 (the "License");
+--    you may not use this file except in compliance with the License.
+--    You may obtain a copy of the License at
+--
+--       https://www.apache.org/licenses/LICENSE-2.0
+--
+--    Unless required by applicable law or agreed to in writing, software
+--    distributed under the License is distributed on an "AS IS" BASIS,
+--    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+--    See the License for the specific language governing permissions and
+--    limitations under the License.
+--
+
+drop table measurements if exists;
+
+create table measurements (
+  id int,
+  sensor varchar(20),
+  reading bigint,
+  temperature double,
+  quality smallint
+);
+
+insert into measurements values (1, 'alpha', 1000000000000, 21.5, 3);
+insert into measurements values (2, 'beta', null, 19.25, null);
+insert into measurements values (3, null, 3000000000000, null, 1);
+insert into measurements values (4, 'delta', 4000000000000, -2.0, 2);